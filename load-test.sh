@@ -0,0 +1,138 @@
+#!/bin/bash
+
+# Load test: platform threads vs virtual threads
+#
+# Fires authenticated student read requests at a running instance and reports
+# throughput and latency percentiles. Run it once per threading mode:
+#
+#   ./mvnw spring-boot:run                                                    # platform threads
+#   ./load-test.sh platform
+#
+#   ./mvnw spring-boot:run -Dspring-boot.run.profiles=virtual-threads        # virtual threads (Java 21+)
+#   ./load-test.sh virtual
+#
+# Results are appended to load-test-results.csv so the two runs can be compared. Every
+# row also records the configuration it measured (git commit, Java version, CPUs, DB
+# pool, SMTP pool and @Async concurrency limit), so numbers can be traced back to the
+# sizes they justify. The sizes come from application.yaml for the chosen mode unless
+# overridden below; check them against the running instance's "Concurrency limits"
+# startup log line.
+#
+# No measurements are checked in yet: the pool and concurrency sizes in application.yaml
+# are starting points until a run on production-like hardware is recorded here.
+#
+# Environment overrides:
+#   BASE_URL     (default http://localhost:8080)
+#   REQUESTS     total requests per endpoint (default 2000)
+#   CONCURRENCY  parallel clients (default 200)
+#   EMAIL / PASSWORD  student account used to log in
+#   DB_POOL / SMTP_POOL / ASYNC_LIMIT  sizes the instance was started with, if overridden
+
+LABEL=${1:-run}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+REQUESTS=${REQUESTS:-2000}
+CONCURRENCY=${CONCURRENCY:-200}
+EMAIL=${EMAIL:-john.doe@student.com}
+PASSWORD=${PASSWORD:-student123}
+RESULTS_FILE=load-test-results.csv
+RESULTS_HEADER="date,label,commit,java,cpus,db_pool,smtp_pool,async_limit,endpoint,requests,concurrency,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms"
+CONFIG_FILE=src/main/resources/application.yaml
+
+# Configuration under test; defaults are read from application.yaml
+yaml_value() {
+    # First value of a key, optionally only after the line matching a section pattern
+    awk -v section="$2" -v key="$1" '
+        section != "" && !found_section { if ($0 ~ section) found_section = 1; next }
+        $1 == key ":" { print $2; exit }' "$CONFIG_FILE"
+}
+if [ "$LABEL" = "virtual" ]; then
+    DEFAULT_ASYNC_LIMIT=$(yaml_value concurrency-limit "on-profile: virtual-threads")
+fi
+DB_POOL=${DB_POOL:-$(yaml_value maximum-pool-size)}
+SMTP_POOL=${SMTP_POOL:-$(yaml_value pool-size "^    transport:")}
+ASYNC_LIMIT=${ASYNC_LIMIT:-${DEFAULT_ASYNC_LIMIT:-none}}
+COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo unknown)
+JAVA_VERSION=$(java -version 2>&1 | sed -n 's/.*version "\([^"]*\)".*/\1/p' | head -1)
+CPUS=$(nproc 2>/dev/null || sysctl -n hw.ncpu 2>/dev/null || echo unknown)
+RUN_CONFIG="$(date -u +%Y-%m-%dT%H:%M:%SZ),$LABEL,$COMMIT,${JAVA_VERSION:-unknown},$CPUS,$DB_POOL,$SMTP_POOL,$ASYNC_LIMIT"
+
+ENDPOINTS=(
+    "/api/student/dashboard/stats"
+    "/api/student/internships"
+    "/api/student/applications"
+    "/api/student/notifications?page=0&size=20"
+)
+
+echo "======================================"
+echo "Load test: $LABEL"
+echo "$REQUESTS requests x ${#ENDPOINTS[@]} endpoints, concurrency $CONCURRENCY"
+echo "commit $COMMIT, Java ${JAVA_VERSION:-unknown}, $CPUS CPUs, db-pool $DB_POOL, smtp-pool $SMTP_POOL, async-limit $ASYNC_LIMIT"
+echo "======================================"
+echo ""
+
+# Check if application is running
+if ! curl -s "$BASE_URL/api/auth/health" > /dev/null 2>&1; then
+    echo "⚠️  Application is not running at $BASE_URL"
+    echo "Please start the application first: ./start-app.sh"
+    exit 1
+fi
+
+TOKEN=$(curl -s -X POST "$BASE_URL/api/auth/login" \
+  -H "Content-Type: application/json" \
+  -d "{\"email\": \"$EMAIL\", \"password\": \"$PASSWORD\"}" \
+  | sed -n 's/.*"token" *: *"\([^"]*\)".*/\1/p')
+
+if [ -z "$TOKEN" ]; then
+    echo "❌ Login failed for $EMAIL (create test data first: ./create-test-data.sh)"
+    exit 1
+fi
+echo "✅ Logged in as $EMAIL"
+echo ""
+
+if [ -f "$RESULTS_FILE" ] && [ "$(head -1 "$RESULTS_FILE")" != "$RESULTS_HEADER" ]; then
+    # Written by an older version of this script without the configuration columns
+    mv "$RESULTS_FILE" "${RESULTS_FILE%.csv}.$(date +%Y%m%d%H%M%S).csv"
+fi
+if [ ! -f "$RESULTS_FILE" ]; then
+    echo "$RESULTS_HEADER" > "$RESULTS_FILE"
+fi
+
+# Warm up JIT, connection pool and caches
+for endpoint in "${ENDPOINTS[@]}"; do
+    for i in $(seq 1 20); do
+        curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE_URL$endpoint"
+    done
+done
+
+for endpoint in "${ENDPOINTS[@]}"; do
+    TIMINGS=$(mktemp)
+    START=$(date +%s.%N)
+
+    # One line per request: "<seconds> <http status>"
+    seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} \
+        curl -s -o /dev/null -w "%{time_total} %{http_code}\n" \
+        -H "Authorization: Bearer $TOKEN" "$BASE_URL$endpoint" >> "$TIMINGS"
+
+    END=$(date +%s.%N)
+
+    # Percentiles by nearest rank over the sorted timings
+    SUMMARY=$(sort -n "$TIMINGS" | awk -v start="$START" -v end="$END" '
+        { t[NR] = $1 * 1000; if ($2 != 200) errors++ }
+        END {
+            n = NR
+            p50 = t[int(n * 0.50 + 0.5) > 0 ? int(n * 0.50 + 0.5) : 1]
+            p95 = t[int(n * 0.95 + 0.5) > 0 ? int(n * 0.95 + 0.5) : 1]
+            p99 = t[int(n * 0.99 + 0.5) > 0 ? int(n * 0.99 + 0.5) : 1]
+            printf "%d,%.1f,%.1f,%.1f,%.1f,%.1f", errors, n / (end - start), p50, p95, p99, t[n]
+        }')
+    rm -f "$TIMINGS"
+
+    echo "$RUN_CONFIG,$endpoint,$REQUESTS,$CONCURRENCY,$SUMMARY" >> "$RESULTS_FILE"
+    IFS=',' read -r ERRORS RPS P50 P95 P99 MAX <<< "$SUMMARY"
+    printf "%-45s %8s req/s   p50 %7s ms   p95 %7s ms   p99 %7s ms   errors %s\n" \
+        "$endpoint" "$RPS" "$P50" "$P95" "$P99" "$ERRORS"
+done
+
+echo ""
+echo "Results appended to $RESULTS_FILE"
+echo "Compare runs with: column -s, -t < $RESULTS_FILE"
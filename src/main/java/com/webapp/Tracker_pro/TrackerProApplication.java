@@ -3,9 +3,11 @@ package com.webapp.Tracker_pro;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAsync //Enable Async --(for non-blocking email sending)
+@EnableScheduling //Enable Scheduling --(for background reconciliation jobs)
 public class TrackerProApplication {
 
 	public static void main(String[] args) {
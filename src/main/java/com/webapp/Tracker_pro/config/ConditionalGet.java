@@ -0,0 +1,31 @@
+package com.webapp.Tracker_pro.config;
+
+import com.webapp.Tracker_pro.service.DataWatermarks;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose response is validated with an ETag
+ *
+ * The ETag is computed from the watermarks of the listed tables, the request URL and
+ * the caller, before the controller runs; a matching If-None-Match is answered with
+ * 304 without calling the service. List every table the response is built from.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * Tables the response depends on
+     */
+    DataWatermarks.Source[] value();
+
+    /**
+     * For responses that also depend on the clock (e.g. "new this week"): the ETag
+     * changes at least this often even without data changes; 0 disables
+     */
+    long revalidateAfterSeconds() default 0;
+}
@@ -1,7 +1,9 @@
 package com.webapp.Tracker_pro.config;
 
 import com.webapp.Tracker_pro.model.Admin;
+import com.webapp.Tracker_pro.model.UserType;
 import com.webapp.Tracker_pro.repository.AdminRepository;
+import com.webapp.Tracker_pro.service.UserIdentityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -19,6 +21,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserIdentityService userIdentityService;
 
     @Override
     public void run(String... args) throws Exception {
@@ -37,7 +40,8 @@ public class DataInitializer implements CommandLineRunner {
             admin.setLocation("System");
             admin.setIsActive(true);
 
-            adminRepository.save(admin);
+            Admin savedAdmin = adminRepository.save(admin);
+            userIdentityService.save(UserType.ADMIN, savedAdmin.getId(), savedAdmin.getEmail(), savedAdmin.getMobileNo());
             
             log.info("✅ Default Admin User Created Successfully!");
             log.info("   Email: admin@trackerpro.com");
@@ -2,6 +2,8 @@ package com.webapp.Tracker_pro.config;
 
 import com.webapp.Tracker_pro.service.JwtService;
 import com.webapp.Tracker_pro.service.UnifiedUserDetailsService;
+import com.webapp.Tracker_pro.service.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +22,8 @@ import java.io.IOException;
 /**
  * JWT Authentication Filter that intercepts every request to validate JWT tokens.
  * Extends OncePerRequestFilter to ensure it's executed once per request.
- * Uses UnifiedUserDetailsService to load users from normalized tables.
+ * Uses UnifiedUserDetailsService to load users from normalized tables,
+ * through UserPrincipalCache so most requests need no database lookup.
  */
 @Component
 @RequiredArgsConstructor
@@ -28,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UnifiedUserDetailsService userDetailsService;
+    private final UserPrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -38,7 +42,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Get Authorization header
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
 
         // Check if Authorization header exists and starts with "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -50,16 +53,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            // Extract username (email) from JWT token
-            userEmail = jwtService.extractUsername(jwt);
+            // Verify and parse the token once
+            Claims claims = jwtService.parseClaims(jwt);
+            String userEmail = claims.getSubject();
 
             // If email is present and user is not already authenticated
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Load user details from normalized tables
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                // Load user details from the principal cache, falling back to the normalized tables
+                UserDetails userDetails = principalCache.get(userEmail, userDetailsService::loadUserByUsername);
 
                 // Validate token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     // Create authentication token
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
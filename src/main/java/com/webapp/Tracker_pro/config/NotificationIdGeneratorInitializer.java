@@ -0,0 +1,53 @@
+package com.webapp.Tracker_pro.config;
+
+import com.webapp.Tracker_pro.model.Notification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Keeps the notification ID generator ahead of existing rows.
+ * Notifications used to take AUTO_INCREMENT IDs; the table generator row that replaced
+ * it starts at 1, so on startup it is moved past the highest existing ID (plus one
+ * allocation block). Idempotent: the generator is only ever moved forward.
+ */
+@Component
+@Order(0)
+@Slf4j
+public class NotificationIdGeneratorInitializer implements CommandLineRunner {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        long maxId = ((Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM notifications")
+                .getSingleResult()).longValue();
+        long floor = maxId + Notification.ID_ALLOCATION_SIZE + 1;
+
+        List<?> current = entityManager.createNativeQuery("SELECT next_val FROM id_generators WHERE gen_name = :key")
+                .setParameter("key", Notification.ID_GENERATOR_KEY)
+                .getResultList();
+
+        if (current.isEmpty()) {
+            entityManager.createNativeQuery("INSERT INTO id_generators (gen_name, next_val) VALUES (:key, :value)")
+                    .setParameter("key", Notification.ID_GENERATOR_KEY)
+                    .setParameter("value", floor)
+                    .executeUpdate();
+            log.info("Notification ID generator initialised at {}", floor);
+        } else if (((Number) current.get(0)).longValue() < floor) {
+            entityManager.createNativeQuery("UPDATE id_generators SET next_val = :value WHERE gen_name = :key")
+                    .setParameter("key", Notification.ID_GENERATOR_KEY)
+                    .setParameter("value", floor)
+                    .executeUpdate();
+            log.info("Notification ID generator moved past existing rows to {}", floor);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.webapp.Tracker_pro.config;
+
+import com.webapp.Tracker_pro.model.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Drops the single-column notification indexes replaced by the composite
+ * (user_id, user_type, is_read, created_at) index.
+ * ddl-auto=update creates new indexes but never removes old ones, and each extra
+ * index costs a write on every notification insert. Idempotent: only indexes that
+ * still exist are dropped.
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationIndexMigration implements CommandLineRunner {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(String... args) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Set<String> existing = new HashSet<>();
+            try (ResultSet indexes = connection.getMetaData()
+                    .getIndexInfo(connection.getCatalog(), null, "notifications", false, false)) {
+                while (indexes.next()) {
+                    String name = indexes.getString("INDEX_NAME");
+                    if (name != null) {
+                        existing.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+
+            for (String index : Notification.LEGACY_INDEXES) {
+                if (existing.contains(index)) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("DROP INDEX " + index + " ON notifications");
+                    }
+                    log.info("Dropped legacy notification index {}", index);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.webapp.Tracker_pro.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs which threading model and concurrency limits the application started with
+ * Spring Boot silently ignores spring.threads.virtual.enabled below Java 21, so a
+ * virtual-threads deployment on an older JRE would otherwise fall back unnoticed.
+ * The limits line lets a load-test run be matched to the configuration it measured.
+ */
+@Component
+@Slf4j
+public class ThreadingModeReporter {
+
+    private static final int VIRTUAL_THREADS_MIN_JAVA = 21;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int javaVersion = Runtime.version().feature();
+
+        if (!requested) {
+            log.info("Threading mode: platform threads (Java {})", javaVersion);
+        } else if (javaVersion >= VIRTUAL_THREADS_MIN_JAVA) {
+            log.info("Threading mode: virtual threads for requests, @Async and @Scheduled (Java {})", javaVersion);
+        } else {
+            log.warn("Virtual threads were requested but need Java {}+; running on platform threads (Java {})",
+                    VIRTUAL_THREADS_MIN_JAVA, javaVersion);
+        }
+        log.info("Concurrency limits: db-pool={} smtp-pool={} async-limit={} scheduling-limit={} cpus={}",
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"),
+                environment.getProperty("app.mail.transport.pool-size", "4"),
+                environment.getProperty("spring.task.execution.simple.concurrency-limit", "none"),
+                environment.getProperty("spring.task.scheduling.simple.concurrency-limit", "none"),
+                Runtime.getRuntime().availableProcessors());
+    }
+}
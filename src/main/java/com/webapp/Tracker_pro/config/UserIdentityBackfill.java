@@ -0,0 +1,103 @@
+package com.webapp.Tracker_pro.config;
+
+import com.webapp.Tracker_pro.model.UserIdentity;
+import com.webapp.Tracker_pro.model.UserType;
+import com.webapp.Tracker_pro.repository.AdminRepository;
+import com.webapp.Tracker_pro.repository.HRFacultyUserRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import com.webapp.Tracker_pro.repository.UserIdentityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Startup migration that indexes accounts missing from user_identities
+ * Runs on every start but only reads accounts without an identity row (an anti-join
+ * on the owner key), so once the index is complete it costs one indexed probe per
+ * account and inserts nothing. Accounts added outside UserIdentityService (SQL seeds,
+ * restores) are picked up on the next start. Set app.identity.backfill.enabled to
+ * false to turn it off.
+ * Tables are read in the legacy login order (admins, students, HR/faculty) so when
+ * the same email exists in two tables the account that used to win login is kept;
+ * shadowed accounts are reported, since they cannot log in.
+ */
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@Slf4j
+public class UserIdentityBackfill implements CommandLineRunner {
+
+    private static final int EMAIL_CHECK_CHUNK = 1000;
+
+    private final AdminRepository adminRepository;
+    private final StudentRepository studentRepository;
+    private final HRFacultyUserRepository hrFacultyUserRepository;
+    private final UserIdentityRepository userIdentityRepository;
+
+    @Value("${app.identity.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        if (!enabled) {
+            log.debug("User identity backfill disabled");
+            return;
+        }
+
+        List<UserIdentity> candidates = new ArrayList<>();
+        for (Object[] row : adminRepository.findUnindexedIdentityRows(UserIdentity.OwnerTable.ADMINS)) {
+            candidates.add(identity(UserType.ADMIN, row));
+        }
+        for (Object[] row : studentRepository.findUnindexedIdentityRows(UserIdentity.OwnerTable.STUDENTS)) {
+            candidates.add(identity(UserType.STUDENT, row));
+        }
+        for (Object[] row : hrFacultyUserRepository.findUnindexedIdentityRows(UserIdentity.OwnerTable.HR_FACULTY_USERS)) {
+            candidates.add(identity((UserType) row[3], row));
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Emails already taken by an indexed account, or by an earlier candidate, cannot be indexed again
+        Set<String> taken = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += EMAIL_CHECK_CHUNK) {
+            List<String> emails = candidates.subList(from, Math.min(from + EMAIL_CHECK_CHUNK, candidates.size()))
+                    .stream().map(UserIdentity::getEmail).toList();
+            taken.addAll(userIdentityRepository.findEmailsIn(emails));
+        }
+        List<UserIdentity> missing = new ArrayList<>();
+        for (UserIdentity candidate : candidates) {
+            if (taken.add(candidate.getEmail())) {
+                missing.add(candidate);
+            } else {
+                log.warn("{} account {} shares email {} with another account and cannot log in",
+                        candidate.getUserType(), candidate.getOwnerId(), candidate.getEmail());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            userIdentityRepository.saveAll(missing);
+            log.info("Backfilled {} user identity row(s)", missing.size());
+        }
+    }
+
+    private UserIdentity identity(UserType userType, Object[] row) {
+        UserIdentity identity = new UserIdentity();
+        identity.setEmail(((String) row[1]).trim().toLowerCase());
+        identity.setMobileNo((String) row[2]);
+        identity.setUserType(userType);
+        identity.setOwnerTable(UserIdentity.OwnerTable.of(userType));
+        identity.setOwnerId((Long) row[0]);
+        return identity;
+    }
+}
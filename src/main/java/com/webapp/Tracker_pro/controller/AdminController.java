@@ -1,17 +1,32 @@
 package com.webapp.Tracker_pro.controller;
 
+import com.webapp.Tracker_pro.config.ConditionalGet;
 import com.webapp.Tracker_pro.dto.*;
+import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
 import com.webapp.Tracker_pro.service.AdminService;
 import com.webapp.Tracker_pro.service.CareerPostService;
+import com.webapp.Tracker_pro.service.ExportWriter;
+import com.webapp.Tracker_pro.service.NotificationFanoutService;
+import com.webapp.Tracker_pro.service.NotificationRetentionService;
+import com.webapp.Tracker_pro.service.StudentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.webapp.Tracker_pro.service.DataWatermarks.Source.*;
 
 /**
  * Production-Ready REST Controller for Admin Operations
@@ -36,6 +51,8 @@ public class AdminController {
 
     private final AdminService adminService;
     private final CareerPostService careerPostService;
+    private final NotificationFanoutService notificationFanoutService;
+    private final NotificationRetentionService notificationRetentionService;
 
     // ==================== Dashboard Endpoints ====================
 
@@ -46,6 +63,7 @@ public class AdminController {
      * @endpoint GET /api/dashboard/stats
      */
     @GetMapping("/dashboard/stats")
+    @ConditionalGet(value = {STUDENTS, HR_USERS, CAREER_POSTS}, revalidateAfterSeconds = 3600)
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
         log.info("Fetching dashboard statistics");
         try {
@@ -75,6 +93,7 @@ public class AdminController {
      * @endpoint GET /api/registrations?search=&role=
      */
     @GetMapping("/registrations")
+    @ConditionalGet({STUDENTS, HR_USERS})
     public ResponseEntity<Map<String, Object>> getAllRegistrations(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String role) {
@@ -101,6 +120,7 @@ public class AdminController {
      * @endpoint GET /api/registrations/{id}
      */
     @GetMapping("/registrations/{id}")
+    @ConditionalGet({STUDENTS, HR_USERS})
     public ResponseEntity<Map<String, Object>> getRegistrationById(@PathVariable Long id) {
         log.info("Fetching registration by ID: {}", id);
         try {
@@ -143,7 +163,7 @@ public class AdminController {
      * Delete multiple registrations
      * 
      * @param payload JSON body containing array of IDs to delete
-     * @return Success message with count
+     * @return Success message with count and per-ID results (deletedIds / notFoundIds)
      * @endpoint POST /api/registrations/delete-multiple
      */
     @PostMapping("/registrations/delete-multiple")
@@ -152,10 +172,11 @@ public class AdminController {
         List<Long> ids = payload.get("ids");
         log.info("Deleting multiple registrations, count: {}", ids.size());
         try {
-            adminService.deleteMultipleStudents(ids);
+            BulkDeleteStudentsResponse result = adminService.deleteMultipleStudents(ids);
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "message", ids.size() + " registration(s) deleted successfully"
+                "message", result.getDeleted() + " registration(s) deleted successfully",
+                "data", result
             ));
         } catch (Exception e) {
             log.error("Error deleting multiple registrations", e);
@@ -166,25 +187,44 @@ public class AdminController {
 
     /**
      * Export registrations data
+     * Streams every student straight to the response as CSV or NDJSON, optionally gzipped
      * 
-     * @return All registrations data for export
-     * @endpoint GET /api/registrations/export
+     * @param format Export format: csv (default) or ndjson
+     * @param gzip Whether to gzip the file
+     * @return Streamed export file
+     * @endpoint GET /api/registrations/export?format=&gzip=
      */
     @GetMapping("/registrations/export")
-    public ResponseEntity<Map<String, Object>> exportRegistrations() {
-        log.info("Exporting registrations data");
+    public ResponseEntity<?> exportRegistrations(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("Exporting registrations data - format: {}, gzip: {}", format, gzip);
+
+        ExportWriter.Format exportFormat;
         try {
-            List<StudentResponse> students = adminService.getAllStudents(null);
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "data", students,
-                "message", "Data exported successfully"
-            ));
-        } catch (Exception e) {
-            log.error("Error exporting registrations", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("success", false, "message", "Error exporting data"));
+            exportFormat = ExportWriter.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
         }
+
+        String filename = "registrations_" + LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 16 * 1024) : out;
+            try (ExportWriter writer = ExportWriter.open(exportFormat, target, StudentService.EXPORT_COLUMNS)) {
+                long rows = adminService.exportStudents(writer);
+                log.info("Registrations export finished: {} rows", rows);
+            } catch (Exception e) {
+                // Headers are already sent; the client sees a truncated file
+                log.error("Error exporting registrations", e);
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8"))
+            .body(body);
     }
 
     // ==================== User Management Endpoints (HR/Faculty) ====================
@@ -197,6 +237,7 @@ public class AdminController {
      * @endpoint GET /api/users?filter=
      */
     @GetMapping("/users")
+    @ConditionalGet({STUDENTS, HR_USERS})
     public ResponseEntity<Map<String, Object>> getUsers(
             @RequestParam(required = false) String filter) {
         log.info("Fetching users with filter: '{}'", filter);
@@ -222,6 +263,7 @@ public class AdminController {
      * @endpoint GET /api/users/{id}
      */
     @GetMapping("/users/{id}")
+    @ConditionalGet({STUDENTS, HR_USERS})
     public ResponseEntity<Map<String, Object>> getUserById(@PathVariable Long id) {
         log.info("Fetching user by ID: {}", id);
         try {
@@ -350,6 +392,7 @@ public class AdminController {
      * @endpoint GET /api/internships?status=&workMode=
      */
     @GetMapping("/internships")
+    @ConditionalGet(CAREER_POSTS)
     public ResponseEntity<Map<String, Object>> getAllInternships(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String workMode) {
@@ -376,6 +419,7 @@ public class AdminController {
      * @endpoint GET /api/internships/{id}
      */
     @GetMapping("/internships/{id}")
+    @ConditionalGet(CAREER_POSTS)
     public ResponseEntity<Map<String, Object>> getInternshipById(@PathVariable Long id) {
         log.info("Fetching internship by ID: {}", id);
         try {
@@ -438,6 +482,14 @@ public class AdminController {
                 "message", "Internship updated successfully",
                 "data", post
             ));
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Concurrent update of internship {} rejected", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of(
+                    "success", false,
+                    "message", "Internship was modified by another user. Review the current version and try again.",
+                    "data", careerPostService.getPostById(id)
+                ));
         } catch (Exception e) {
             log.error("Error updating internship with ID: {}", id, e);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -516,6 +568,7 @@ public class AdminController {
      * @endpoint GET /api/internships/search?term=
      */
     @GetMapping("/internships/search")
+    @ConditionalGet(CAREER_POSTS)
     public ResponseEntity<Map<String, Object>> searchInternships(@RequestParam String term) {
         log.info("Searching internships with term: '{}'", term);
         try {
@@ -531,4 +584,40 @@ public class AdminController {
                 .body(Map.of("success", false, "message", "Error searching internships"));
         }
     }
+
+    /**
+     * Get progress of the "new internship" notification fan-out for a post
+     * The fan-out runs in the background after the post is published
+     * 
+     * @param id Internship ID
+     * @return Job status with processed / total recipients
+     * @endpoint GET /api/internships/{id}/notification-job
+     */
+    @GetMapping("/internships/{id}/notification-job")
+    public ResponseEntity<Map<String, Object>> getInternshipNotificationJob(@PathVariable Long id) {
+        try {
+            NotificationFanoutJobResponse job = notificationFanoutService.getLatestJobForPost(id);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", job
+            ));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get notification retention metrics (last run, totals, backlog, table sizes)
+     * 
+     * @return Retention metrics snapshot
+     * @endpoint GET /api/notifications/retention
+     */
+    @GetMapping("/notifications/retention")
+    public ResponseEntity<Map<String, Object>> getNotificationRetentionMetrics() {
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", notificationRetentionService.getMetrics()
+        ));
+    }
 }
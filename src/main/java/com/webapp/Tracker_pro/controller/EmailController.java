@@ -1,20 +1,29 @@
 package com.webapp.Tracker_pro.controller;
 
+import com.webapp.Tracker_pro.dto.EmailJobStatusResponse;
+import com.webapp.Tracker_pro.dto.EmailTemplateRequest;
 import com.webapp.Tracker_pro.dto.SendBulkEmailRequest;
 import com.webapp.Tracker_pro.dto.SendInterviewInviteRequest;
+import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
+import com.webapp.Tracker_pro.model.Admin;
+import com.webapp.Tracker_pro.model.EmailTemplate;
+import com.webapp.Tracker_pro.model.HRFacultyUser;
+import com.webapp.Tracker_pro.service.EmailOutboxService;
 import com.webapp.Tracker_pro.service.EmailService;
+import com.webapp.Tracker_pro.service.EmailTemplateService;
+import com.webapp.Tracker_pro.service.SmtpTransportPool;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for Email Operations
@@ -23,7 +32,8 @@ import java.util.stream.Collectors;
  * All endpoints require HR or ADMIN role
  * 
  * Endpoints:
- * - POST /api/hr/emails/send-bulk              - Send bulk emails to multiple candidates
+ * - POST /api/hr/emails/send-bulk              - Queue bulk emails to multiple candidates
+ * - GET  /api/hr/emails/jobs/{jobId}           - Get bulk email job progress
  * - POST /api/hr/emails/send-interview-invite  - Send interview invitation to a candidate
  * 
  * @author TrackerPro Team
@@ -38,64 +48,39 @@ import java.util.stream.Collectors;
 public class EmailController {
 
     private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final SmtpTransportPool smtpTransportPool;
+    private final EmailTemplateService emailTemplateService;
 
     /**
-     * Send bulk emails to multiple candidates
+     * Queue bulk emails to multiple candidates
      * Used for rejection, acceptance, or other bulk notifications
+     * Messages are written to the email outbox and delivered in the background
      * 
      * @param request Bulk email request with recipients, subject, and body
-     * @return Response with success status and count of emails sent
+     * @return Response with the job ID to poll for progress
      * @endpoint POST /api/hr/emails/send-bulk
      */
     @PostMapping("/send-bulk")
     public ResponseEntity<Map<String, Object>> sendBulkEmails(
             @Valid @RequestBody SendBulkEmailRequest request) {
         
-        log.info("HR sending bulk emails to {} recipients", request.getRecipients().size());
+        log.info("HR queueing bulk emails to {} recipients", request.getRecipients().size());
         
         try {
-            // Extract email addresses from recipients
-            List<String> emails = request.getRecipients().stream()
-                    .map(SendBulkEmailRequest.RecipientInfo::getEmail)
-                    .collect(Collectors.toList());
-            
-            // Send emails
-            int successCount = 0;
-            int failedCount = 0;
-            
-            for (SendBulkEmailRequest.RecipientInfo recipient : request.getRecipients()) {
-                try {
-                    // Personalize email body with candidate name if placeholder exists
-                    String personalizedBody = request.getBody();
-                    if (recipient.getName() != null && !recipient.getName().isEmpty()) {
-                        personalizedBody = personalizedBody.replace("{candidateName}", recipient.getName());
-                        personalizedBody = personalizedBody.replace("Dear Candidate", "Dear " + recipient.getName());
-                    }
-                    
-                    emailService.sendSimpleEmail(
-                        recipient.getEmail(),
-                        request.getSubject(),
-                        personalizedBody
-                    );
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("Failed to send email to {}: {}", recipient.getEmail(), e.getMessage());
-                    failedCount++;
-                }
-            }
+            EmailJobStatusResponse job = emailOutboxService.enqueueBulk(request, getCurrentUserId());
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", String.format("Emails sent successfully to %d/%d recipients", 
-                    successCount, request.getRecipients().size()));
-            response.put("totalRecipients", request.getRecipients().size());
-            response.put("successCount", successCount);
-            response.put("failedCount", failedCount);
+            response.put("message", String.format("Emails queued for %d recipient(s)", job.getTotal()));
+            response.put("jobId", job.getJobId());
+            response.put("totalRecipients", job.getTotal());
+            response.put("data", job);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
             
         } catch (Exception e) {
-            log.error("Error sending bulk emails", e);
+            log.error("Error queueing bulk emails", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of(
                             "success", false,
@@ -104,6 +89,80 @@ public class EmailController {
         }
     }
 
+    /**
+     * Get progress of a bulk email job
+     * 
+     * @param jobId Job ID returned by send-bulk
+     * @return Job status with pending, sent and failed counts
+     * @endpoint GET /api/hr/emails/jobs/{jobId}
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJobStatus(@PathVariable Long jobId) {
+        log.info("HR fetching email job status for ID: {}", jobId);
+        
+        try {
+            EmailJobStatusResponse job = emailOutboxService.getJobStatus(jobId);
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "data", job
+            ));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
+        }
+    }
+
+    /**
+     * Create or replace a stored email template
+     * The new version is used for subsequent sends without a restart
+     * 
+     * @param templateKey Template key (e.g. interview-invitation)
+     * @param request Template body and HTML flag
+     * @return Response with the new template version
+     * @endpoint PUT /api/hr/emails/templates/{templateKey}
+     */
+    @PutMapping("/templates/{templateKey}")
+    public ResponseEntity<Map<String, Object>> saveTemplate(
+            @PathVariable String templateKey,
+            @Valid @RequestBody EmailTemplateRequest request) {
+        
+        log.info("HR saving email template: {}", templateKey);
+        
+        try {
+            EmailTemplate saved = emailTemplateService.save(
+                    templateKey, request.getBody(), !Boolean.FALSE.equals(request.getHtml()));
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "Template saved",
+                    "templateKey", saved.getTemplateKey(),
+                    "version", saved.getVersion()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
+        }
+    }
+
+    /**
+     * Get SMTP connection pool metrics (pool hits, handshakes, send latency)
+     * 
+     * @return Pool metrics snapshot
+     * @endpoint GET /api/hr/emails/transport-metrics
+     */
+    @GetMapping("/transport-metrics")
+    public ResponseEntity<Map<String, Object>> getTransportMetrics() {
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", smtpTransportPool.getMetrics()
+        ));
+    }
+
     /**
      * Send interview invitation to a candidate
      * 
@@ -187,4 +246,21 @@ public class EmailController {
                     ));
         }
     }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Get current authenticated HR/Admin user ID, or null if it cannot be determined
+     */
+    private Long getCurrentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null) {
+            if (auth.getPrincipal() instanceof Admin admin) {
+                return admin.getId();
+            } else if (auth.getPrincipal() instanceof HRFacultyUser hrUser) {
+                return hrUser.getId();
+            }
+        }
+        return null;
+    }
 }
@@ -1,21 +1,33 @@
 package com.webapp.Tracker_pro.controller;
 
+import com.webapp.Tracker_pro.config.ConditionalGet;
 import com.webapp.Tracker_pro.dto.*;
+import com.webapp.Tracker_pro.exception.ConcurrentUpdateException;
+import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
+import com.webapp.Tracker_pro.service.ExportWriter;
 import com.webapp.Tracker_pro.service.HRApplicationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.webapp.Tracker_pro.service.DataWatermarks.Source.*;
 
 /**
  * REST Controller for HR Module Operations
@@ -24,10 +36,12 @@ import java.util.Map;
  * All endpoints require HR or ADMIN role
  * 
  * Endpoints:
- * - GET    /api/hr/applications               - Get all applications with filters
+ * - GET    /api/hr/applications               - Get applications with filters (keyset paginated)
+ * - GET    /api/hr/applications/export        - Stream applications as CSV, NDJSON or XLSX
  * - GET    /api/hr/applications/{id}          - Get single application details
  * - PUT    /api/hr/applications/{id}/status   - Update application status
  * - PUT    /api/hr/applications/{id}/notes    - Update HR notes
+ * - PATCH  /api/hr/applications/{id}          - Partial update (status/notes) with version check
  * - PUT    /api/hr/applications/bulk-update   - Bulk status update
  * - GET    /api/hr/applications/shortlisted   - Get shortlisted applications
  * - GET    /api/hr/dashboard/stats            - Get dashboard statistics
@@ -45,42 +59,69 @@ public class HRController {
 
     private final HRApplicationService hrApplicationService;
 
+    /**
+     * Response header carrying the afterId of the next export chunk; absent on the last chunk
+     */
+    private static final String NEXT_AFTER_ID_HEADER = "X-Export-Next-After-Id";
+
 
 
     // ==================== Applications Management ====================
 
     /**
-     * Get all applications with optional filters
+     * Get applications with optional filters, one keyset page at a time
      * 
      * @param search       Optional search term for name/email
      * @param status       Optional status filter
      * @param dateFrom     Optional start date filter (yyyy-MM-dd)
      * @param dateTo       Optional end date filter (yyyy-MM-dd)
      * @param internshipId Optional internship ID filter
-     * @return List of applications
+     * @param cursor       Optional cursor returned as "nextCursor" by the previous page
+     * @param limit        Optional page size
+     * @return One page of applications and the cursor for the next page
      * @endpoint GET /api/hr/applications
      */
     @GetMapping("/applications")
+    @ConditionalGet({APPLICATIONS, STUDENTS, CAREER_POSTS})
     public ResponseEntity<Map<String, Object>> getApplications(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
-            @RequestParam(required = false) Long internshipId) {
+            @RequestParam(required = false) Long internshipId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         
-        log.info("HR fetching applications - search: '{}', status: '{}', dateFrom: {}, dateTo: {}, internshipId: {}",
-                search, status, dateFrom, dateTo, internshipId);
+        log.info("HR fetching applications - search: '{}', status: '{}', dateFrom: {}, dateTo: {}, internshipId: {}, cursor: {}, limit: {}",
+                search, status, dateFrom, dateTo, internshipId, cursor, limit);
         
         try {
-            List<HRApplicationSummaryResponse> applications = hrApplicationService.getAllApplications(
-                    search, status, dateFrom, dateTo, internshipId);
+            HRApplicationFilter filter = HRApplicationFilter.builder()
+                    .search(search)
+                    .status(status)
+                    .dateFrom(dateFrom)
+                    .dateTo(dateTo)
+                    .internshipId(internshipId)
+                    .build();
+            HRApplicationPageResponse page = hrApplicationService.getApplicationsPage(filter, cursor, limit);
             
-            return ResponseEntity.ok(Map.of(
-                    "success", true,
-                    "message", "Applications retrieved successfully",
-                    "total", applications.size(),
-                    "data", applications
-            ));
+            // HashMap because nextCursor is null on the last page
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Applications retrieved successfully");
+            response.put("total", page.getData().size());
+            response.put("data", page.getData());
+            response.put("limit", page.getLimit());
+            response.put("hasMore", page.isHasMore());
+            response.put("nextCursor", page.getNextCursor());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid applications request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
         } catch (Exception e) {
             log.error("Error fetching applications", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -91,6 +132,89 @@ public class HRController {
         }
     }
 
+    /**
+     * Export applications joined with student and internship data
+     * Rows are streamed straight to the response, so memory use does not depend on the result size.
+     * With a limit the export is split into chunks of application IDs: each response carries
+     * the afterId of the next chunk in the X-Export-Next-After-Id header, and an interrupted
+     * download resumes by requesting afterId = last application ID received. Continuation CSV
+     * chunks omit the header row so they can be appended to the first one.
+     * 
+     * @param search       Optional search term for name/email
+     * @param status       Optional status filter
+     * @param dateFrom     Optional start date filter (yyyy-MM-dd)
+     * @param dateTo       Optional end date filter (yyyy-MM-dd)
+     * @param internshipId Optional internship ID filter
+     * @param format       Export format: csv (default), ndjson or xlsx
+     * @param gzip         Whether to gzip the file (ignored for xlsx, which is already compressed)
+     * @param afterId      Optional application ID to resume after
+     * @param limit        Optional chunk size; omit to export everything in one response
+     * @return Streamed export file
+     * @endpoint GET /api/hr/applications/export
+     */
+    @GetMapping("/applications/export")
+    public ResponseEntity<?> exportApplications(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+            @RequestParam(required = false) Long internshipId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("HR exporting applications - search: '{}', status: '{}', dateFrom: {}, dateTo: {}, internshipId: {}, format: {}, afterId: {}, limit: {}",
+                search, status, dateFrom, dateTo, internshipId, format, afterId, limit);
+
+        HRApplicationFilter filter = HRApplicationFilter.builder()
+                .search(search)
+                .status(status)
+                .dateFrom(dateFrom)
+                .dateTo(dateTo)
+                .internshipId(internshipId)
+                .build();
+
+        ExportWriter.Format exportFormat;
+        Long chunkEnd;
+        try {
+            exportFormat = ExportWriter.Format.parse(format);
+            chunkEnd = hrApplicationService.findExportChunkEnd(filter, afterId, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        }
+
+        boolean compress = gzip && !exportFormat.isCompressed();
+        boolean header = afterId == null;
+        String contentType = compress ? "application/gzip"
+                : exportFormat.isCompressed() ? exportFormat.getContentType()
+                : exportFormat.getContentType() + ";charset=UTF-8";
+        String filename = "applications_" + LocalDate.now() + (afterId != null ? "_after" + afterId : "")
+                + "." + exportFormat.getExtension() + (compress ? ".gz" : "");
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = compress ? new GZIPOutputStream(out, 16 * 1024) : out;
+            try (ExportWriter writer = ExportWriter.open(exportFormat, target, HRApplicationService.EXPORT_COLUMNS, header)) {
+                long rows = hrApplicationService.exportApplications(filter, afterId, chunkEnd, writer);
+                log.info("Applications export finished: {} rows", rows);
+            } catch (Exception e) {
+                // Headers are already sent; the client sees a truncated file and resumes from its last ID
+                log.error("Error exporting applications", e);
+                throw e;
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, NEXT_AFTER_ID_HEADER)
+                .contentType(MediaType.parseMediaType(contentType));
+        if (chunkEnd != null) {
+            response.header(NEXT_AFTER_ID_HEADER, chunkEnd.toString());
+        }
+        return response.body(body);
+    }
+
     /**
      * Get single application by ID with full details
      * 
@@ -99,6 +223,7 @@ public class HRController {
      * @endpoint GET /api/hr/applications/{id}
      */
     @GetMapping("/applications/{id}")
+    @ConditionalGet({APPLICATIONS, STUDENTS, CAREER_POSTS, HR_USERS})  // Detail includes the reviewer's name
     public ResponseEntity<Map<String, Object>> getApplicationById(@PathVariable Long id) {
         log.info("HR fetching application details for ID: {}", id);
         
@@ -137,13 +262,21 @@ public class HRController {
         try {
             Long hrUserId = getCurrentUserId();
             HRApplicationDetailResponse application = hrApplicationService.updateApplicationStatus(
-                    id, request.getStatus(), request.getHrNotes(), hrUserId);
+                    id, request.getStatus(), request.getHrNotes(), request.getVersion(), hrUserId);
             
             return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "Application status updated successfully",
                     "data", application
             ));
+        } catch (ConcurrentUpdateException e) {
+            return conflict(id, e);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
         } catch (IllegalArgumentException e) {
             log.warn("Invalid status update request: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -179,13 +312,21 @@ public class HRController {
         try {
             Long hrUserId = getCurrentUserId();
             HRApplicationDetailResponse application = hrApplicationService.updateApplicationNotes(
-                    id, request.getHrNotes(), hrUserId);
+                    id, request.getHrNotes(), request.getVersion(), hrUserId);
             
             return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "Notes updated successfully",
                     "data", application
             ));
+        } catch (ConcurrentUpdateException e) {
+            return conflict(id, e);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
         } catch (Exception e) {
             log.error("Error updating notes for application ID: {}", id, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -196,11 +337,63 @@ public class HRController {
         }
     }
 
+    /**
+     * Partially update an application (status and/or notes)
+     * Only the supplied fields are written; send the "version" from the last read to
+     * have the change rejected with 409 if someone else updated the application since.
+     * If-Match is not read: the detail ETag identifies the response, not the version.
+     * 
+     * @param id      Application ID
+     * @param request Fields to change and optional version
+     * @return Updated application, or 409 with the current application
+     * @endpoint PATCH /api/hr/applications/{id}
+     */
+    @PatchMapping("/applications/{id}")
+    public ResponseEntity<Map<String, Object>> patchApplication(
+            @PathVariable Long id,
+            @RequestBody ApplicationPatchRequest request) {
+        
+        log.info("HR patching application {}", id);
+        
+        try {
+            Long hrUserId = getCurrentUserId();
+            HRApplicationDetailResponse application = hrApplicationService.patchApplication(id, request, hrUserId);
+            
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "Application updated successfully",
+                    "data", application
+            ));
+        } catch (ConcurrentUpdateException e) {
+            return conflict(id, e);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid application patch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
+        } catch (Exception e) {
+            log.error("Error patching application ID: {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                            "success", false,
+                            "message", "Error updating application: " + e.getMessage()
+                    ));
+        }
+    }
+
     /**
      * Bulk update status for multiple applications
      * 
      * @param request Bulk update request with IDs and new status
-     * @return Count of updated applications
+     * @return Count of updated applications and IDs that were not found
      * @endpoint PUT /api/hr/applications/bulk-update
      */
     @PutMapping("/applications/bulk-update")
@@ -212,13 +405,15 @@ public class HRController {
         
         try {
             Long hrUserId = getCurrentUserId();
-            int updatedCount = hrApplicationService.bulkUpdateStatus(
+            BulkUpdateApplicationResponse result = hrApplicationService.bulkUpdateStatus(
                     request.getApplicationIds(), request.getStatus(), hrUserId);
             
             return ResponseEntity.ok(Map.of(
                     "success", true,
-                    "message", updatedCount + " application(s) updated successfully",
-                    "updated", updatedCount
+                    "message", result.getUpdated() + " application(s) updated successfully",
+                    "updated", result.getUpdated(),
+                    "requested", result.getRequested(),
+                    "notFoundIds", result.getNotFoundIds()
             ));
         } catch (IllegalArgumentException e) {
             log.warn("Invalid bulk update request: {}", e.getMessage());
@@ -245,6 +440,7 @@ public class HRController {
      * @endpoint GET /api/hr/applications/shortlisted
      */
     @GetMapping("/applications/shortlisted")
+    @ConditionalGet({APPLICATIONS, STUDENTS, CAREER_POSTS})
     public ResponseEntity<Map<String, Object>> getShortlistedApplications(
             @RequestParam(required = false) String type) {
         
@@ -277,6 +473,7 @@ public class HRController {
      * @endpoint GET /api/hr/dashboard/stats
      */
     @GetMapping("/dashboard/stats")
+    @ConditionalGet(value = {APPLICATIONS, CAREER_POSTS}, revalidateAfterSeconds = 60)
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
         log.info("HR fetching dashboard statistics");
         
@@ -321,4 +518,16 @@ public class HRController {
         }
         return 1L;  // Default fallback
     }
+
+    /**
+     * 409 response carrying the application's current state, so the client can merge and retry
+     */
+    private ResponseEntity<Map<String, Object>> conflict(Long id, ConcurrentUpdateException e) {
+        log.info("Rejected stale update of application {}: {}", id, e.getMessage());
+        Map<String, Object> body = new HashMap<>();
+        body.put("success", false);
+        body.put("message", "Application was modified by another user. Review the current version and try again.");
+        body.put("data", hrApplicationService.getApplicationById(id));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
 }
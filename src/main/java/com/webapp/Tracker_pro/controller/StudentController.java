@@ -1,18 +1,26 @@
 package com.webapp.Tracker_pro.controller;
 
+import com.webapp.Tracker_pro.config.ConditionalGet;
 import com.webapp.Tracker_pro.dto.ApplicationRequest;
 import com.webapp.Tracker_pro.dto.StudentProfileRequest;
+import com.webapp.Tracker_pro.service.CareerPostCatalog;
 import com.webapp.Tracker_pro.service.StudentCareerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.Map;
 
+import static com.webapp.Tracker_pro.service.DataWatermarks.Source.*;
+
 /**
  * REST Controller for Student Career operations
  */
@@ -24,6 +32,7 @@ import java.util.Map;
 public class StudentController {
 
     private final StudentCareerService studentCareerService;
+    private final CareerPostCatalog careerPostCatalog;
 
     // ==================== Profile Management ====================
 
@@ -32,6 +41,7 @@ public class StudentController {
      * @endpoint GET /api/student/profile
      */
     @GetMapping("/profile")
+    @ConditionalGet(STUDENTS)
     public ResponseEntity<Map<String, Object>> getProfile(Authentication authentication) {
         log.info("Getting profile for student: {}", authentication.getName());
         Map<String, Object> response = studentCareerService.getStudentProfile(authentication.getName());
@@ -55,15 +65,24 @@ public class StudentController {
 
     /**
      * Get all published internships (students see only published posts)
+     * Served from the catalog snapshot; If-None-Match with the current ETag gets 304.
      * @endpoint GET /api/student/internships
      */
     @GetMapping("/internships")
     public ResponseEntity<Map<String, Object>> getAvailableInternships(
+            WebRequest webRequest,
             @RequestParam(required = false) String workMode,
             @RequestParam(required = false) String search) {
+        CareerPostCatalog.Snapshot catalog = careerPostCatalog.current();
+        if (webRequest.checkNotModified(catalog.etag())) {
+            return null;  // 304 Not Modified, ETag already set
+        }
         log.info("Getting available internships - workMode: {}, search: {}", workMode, search);
-        Map<String, Object> response = studentCareerService.getAvailableInternships(workMode, search);
-        return ResponseEntity.ok(response);
+        Map<String, Object> response = studentCareerService.getAvailableInternships(catalog, workMode, search);
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
     }
 
     /**
@@ -71,6 +90,7 @@ public class StudentController {
      * @endpoint GET /api/student/internships/{id}
      */
     @GetMapping("/internships/{id}")
+    @ConditionalGet(CAREER_POSTS)
     public ResponseEntity<Map<String, Object>> getInternshipDetails(@PathVariable Long id) {
         log.info("Getting internship details for ID: {}", id);
         Map<String, Object> response = studentCareerService.getInternshipDetails(id);
@@ -82,6 +102,7 @@ public class StudentController {
      * @endpoint GET /api/student/internships/{id}/check-application
      */
     @GetMapping("/internships/{id}/check-application")
+    @ConditionalGet({APPLICATIONS, STUDENTS})
     public ResponseEntity<Map<String, Object>> checkIfApplied(
             Authentication authentication,
             @PathVariable Long id) {
@@ -115,6 +136,7 @@ public class StudentController {
      * @endpoint GET /api/student/applications
      */
     @GetMapping("/applications")
+    @ConditionalGet({APPLICATIONS, CAREER_POSTS, STUDENTS})
     public ResponseEntity<Map<String, Object>> getMyApplications(
             Authentication authentication,
             @RequestParam(required = false) String status) {
@@ -128,6 +150,7 @@ public class StudentController {
      * @endpoint GET /api/student/applications/{id}
      */
     @GetMapping("/applications/{id}")
+    @ConditionalGet({APPLICATIONS, CAREER_POSTS, STUDENTS})
     public ResponseEntity<Map<String, Object>> getApplicationDetails(
             Authentication authentication,
             @PathVariable Long id) {
@@ -170,18 +193,44 @@ public class StudentController {
     // ==================== Notifications ====================
 
     /**
-     * Get my notifications
-     * @endpoint GET /api/student/notifications
+     * Get my notifications, one page at a time (newest first)
+     * @endpoint GET /api/student/notifications?unreadOnly=&page=&size=
      */
     @GetMapping("/notifications")
     public ResponseEntity<Map<String, Object>> getNotifications(
             Authentication authentication,
-            @RequestParam(required = false, defaultValue = "false") Boolean unreadOnly) {
-        log.info("Getting notifications for student: {} (unreadOnly: {})", authentication.getName(), unreadOnly);
-        Map<String, Object> response = studentCareerService.getNotifications(authentication.getName(), unreadOnly);
+            @RequestParam(required = false, defaultValue = "false") Boolean unreadOnly,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false) Integer size) {
+        log.info("Getting notifications for student: {} (unreadOnly: {}, page: {})", authentication.getName(), unreadOnly, page);
+        Map<String, Object> response = studentCareerService.getNotifications(authentication.getName(), unreadOnly, page, size);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream new notifications as Server-Sent Events
+     * Reconnecting clients send Last-Event-ID to receive the notifications they missed.
+     * Returns 503 when the instance or the student's connection cap is reached.
+     * @endpoint GET /api/student/notifications/stream
+     */
+    @GetMapping("/notifications/stream")
+    public ResponseEntity<?> streamNotifications(
+            Authentication authentication,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws IOException {
+        log.debug("Opening notification stream for student: {} (Last-Event-ID: {})", authentication.getName(), lastEventId);
+        try {
+            SseEmitter emitter = studentCareerService.subscribeNotifications(authentication.getName(), lastEventId);
+            return ResponseEntity.ok()
+                    .header("Cache-Control", "no-cache")
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "30")
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
     /**
      * Mark notification as read
      * @endpoint PATCH /api/student/notifications/{id}/read
@@ -0,0 +1,52 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset cursor over (applied_date, id) for paginated application lists
+ * Encoded as an opaque URL-safe token so clients just echo back "nextCursor"
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCursor {
+
+    private LocalDateTime appliedDate;
+    private Long id;
+
+    /**
+     * Encode cursor into an opaque token
+     */
+    public String encode() {
+        String raw = appliedDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}
+     *
+     * @param token Cursor token, may be null or empty
+     * @return Decoded cursor or null when no token is given
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ApplicationCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new ApplicationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
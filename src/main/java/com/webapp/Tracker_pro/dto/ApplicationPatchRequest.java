@@ -0,0 +1,20 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a partial application update; only non-null fields are changed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationPatchRequest {
+
+    private String status;  // Optional new status
+
+    private String hrNotes;  // Optional new notes (empty string clears them)
+
+    private Long version;  // Optional version the change is based on; a mismatch is rejected with 409
+}
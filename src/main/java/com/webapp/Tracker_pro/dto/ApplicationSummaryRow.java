@@ -0,0 +1,38 @@
+package com.webapp.Tracker_pro.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one HR application list row: the application joined with its student
+ * and career post in SQL, limited to the columns the summary view shows
+ * (no cover letter or HR notes; those are loaded by the detail view)
+ * Student and career post fields are null when the referenced row no longer exists.
+ */
+public record ApplicationSummaryRow(
+        Long id,
+        String status,
+        LocalDateTime appliedDate,
+        String resumeUrl,
+        String resumeFilename,
+        String additionalSkills,
+        String availability,
+        String expectedStipend,
+        Long reviewedBy,
+        LocalDateTime reviewedDate,
+        Long version,
+        Long studentId,
+        String firstName,
+        String lastName,
+        String email,
+        String mobileNo,
+        String gender,
+        String dob,
+        String fatherName,
+        String location,
+        String pincode,
+        Long careerPostId,
+        String code,
+        String title,
+        Integer duration,
+        String workMode) {
+}
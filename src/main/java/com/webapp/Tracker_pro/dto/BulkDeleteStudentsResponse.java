@@ -0,0 +1,27 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk student deletion
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteStudentsResponse {
+
+    private int requested;              // Distinct IDs in the request
+    private int deleted;                // Students deleted
+    private int chunks;                 // Number of ID chunks processed
+    private List<Long> deletedIds;      // IDs that were deleted
+    private List<Long> notFoundIds;     // IDs that do not exist
+    private int applicationsDeleted;    // Dependent application rows removed
+    private int notificationsDeleted;   // Dependent notification rows removed
+    private int documentsDeleted;       // Dependent document rows removed
+}
@@ -0,0 +1,23 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk application status update
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateApplicationResponse {
+
+    private int requested;          // Distinct IDs in the request
+    private int updated;            // Rows updated
+    private int chunks;             // Number of UPDATE statements issued
+    private List<Long> notFoundIds; // IDs that do not exist
+}
@@ -0,0 +1,35 @@
+package com.webapp.Tracker_pro.dto;
+
+import com.webapp.Tracker_pro.model.CareerPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of a posted internship as shown to students
+ * Held by the catalog snapshot instead of the (mutable) entity. applicationsCount is
+ * null in the cached catalog and filled from the live column where a view shows it.
+ */
+public record CatalogPost(
+        Long id,
+        String code,
+        String title,
+        Integer duration,
+        String workMode,
+        String prerequisites,
+        String description,
+        String status,
+        Integer applicationsCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static CatalogPost of(CareerPost post, Integer applicationsCount) {
+        return new CatalogPost(post.getId(), post.getCode(), post.getTitle(), post.getDuration(),
+                post.getWorkMode(), post.getPrerequisites(), post.getDescription(), post.getStatus(),
+                applicationsCount, post.getCreatedAt(), post.getUpdatedAt());
+    }
+
+    public CatalogPost withApplicationsCount(Integer count) {
+        return new CatalogPost(id, code, title, duration, workMode, prerequisites, description, status,
+                count, createdAt, updatedAt);
+    }
+}
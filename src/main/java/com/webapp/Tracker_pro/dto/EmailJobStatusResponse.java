@@ -0,0 +1,28 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for bulk email job progress
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailJobStatusResponse {
+
+    private Long jobId;
+    private String status;      // QUEUED, IN_PROGRESS, COMPLETED, COMPLETED_WITH_ERRORS
+    private String subject;
+    private long total;
+    private long pending;       // Waiting for first attempt or retry
+    private long sending;
+    private long sent;
+    private long failed;        // Dead-lettered after the maximum number of attempts
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.webapp.Tracker_pro.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for creating or replacing a stored email template
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailTemplateRequest {
+
+    @NotBlank(message = "Template body is required")
+    private String body;
+
+    private Boolean html = true;
+}
@@ -38,6 +38,7 @@ public class HRApplicationDetailResponse {
     private String reviewedDate;
     private String createdAt;
     private String updatedAt;
+    private Long version;  // Send back with updates to detect concurrent edits
     
     /**
      * Complete student details for detailed view
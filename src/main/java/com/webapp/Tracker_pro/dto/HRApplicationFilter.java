@@ -0,0 +1,39 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Filter criteria for HR application list queries
+ * All filters are optional and are applied in the database
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HRApplicationFilter {
+
+    private String search;        // Matches student full name or email
+    private String status;        // Exact status, "all" or empty means no filter
+    private LocalDate dateFrom;   // Inclusive
+    private LocalDate dateTo;     // Inclusive
+    private Long internshipId;    // Career post ID
+
+    /**
+     * Check if a status filter should be applied
+     */
+    public boolean hasStatus() {
+        return status != null && !status.isEmpty() && !status.equalsIgnoreCase("all");
+    }
+
+    /**
+     * Check if a search filter should be applied
+     */
+    public boolean hasSearch() {
+        return search != null && !search.trim().isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a single keyset page of HR applications
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HRApplicationPageResponse {
+
+    private List<HRApplicationSummaryResponse> data;
+    private int limit;
+    private boolean hasMore;
+    private String nextCursor;  // Null on the last page
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO for HR application summary response (list view)
+ * Cover letter and HR notes are only part of HRApplicationDetailResponse
  */
 @Data
 @Builder
@@ -26,15 +27,14 @@ public class HRApplicationSummaryResponse {
     // Application details
     private String status;
     private String appliedDate;
-    private String coverLetter;
     private String resumeUrl;
     private String resumeFilename;
     private String additionalSkills;
     private String availability;
     private String expectedStipend;
-    private String hrNotes;
     private Long reviewedBy;
     private String reviewedDate;
+    private Long version;  // Send back with updates; a stale version is rejected with 409
     
     /**
      * Nested DTO for student information
@@ -0,0 +1,27 @@
+package com.webapp.Tracker_pro.dto;
+
+import com.webapp.Tracker_pro.model.Admin;
+import com.webapp.Tracker_pro.model.HRFacultyUser;
+import com.webapp.Tracker_pro.model.Student;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * An identity row joined with the account it points at, loaded in one query
+ * Only the field for the identity's owner table is set; all are null when the
+ * owning row no longer exists.
+ */
+public record IdentityAccount(Admin admin, Student student, HRFacultyUser hrFacultyUser) {
+
+    /**
+     * The owning account, or null if it no longer exists
+     */
+    public UserDetails account() {
+        if (admin != null) {
+            return admin;
+        }
+        if (student != null) {
+            return student;
+        }
+        return hrFacultyUser;
+    }
+}
@@ -0,0 +1,29 @@
+package com.webapp.Tracker_pro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for notification fan-out job progress
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutJobResponse {
+
+    private Long jobId;
+    private Long careerPostId;
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private Integer total;          // Active students when the job started
+    private int processed;          // Notifications inserted so far
+    private int percentComplete;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,27 @@
+package com.webapp.Tracker_pro.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one row of a student's "My Applications" list, joined with the
+ * career post in SQL
+ * The cover letter and internship description are left out; HR notes are only
+ * selected for applications at the interview stage, where the list shows them.
+ */
+public record StudentApplicationRow(
+        Long id,
+        Long careerPostId,
+        String status,
+        LocalDateTime appliedDate,
+        String resumeUrl,
+        String resumeFilename,
+        String additionalSkills,
+        String availability,
+        String expectedStipend,
+        String hrNotes,
+        LocalDateTime reviewedDate,
+        String title,
+        String code,
+        String workMode,
+        Integer duration) {
+}
@@ -13,4 +13,6 @@ import lombok.NoArgsConstructor;
 public class UpdateApplicationNotesRequest {
     
     private String hrNotes;  // HR notes/comments on the application
+
+    private Long version;  // Optional version the update is based on; a mismatch is rejected with 409
 }
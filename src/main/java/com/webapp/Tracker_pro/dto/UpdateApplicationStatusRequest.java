@@ -17,4 +17,6 @@ public class UpdateApplicationStatusRequest {
     private String status;  // Pending, Under Review, Shortlisted, Accepted, Rejected
     
     private String hrNotes;  // Optional notes to add with status update
+
+    private Long version;  // Optional version the update is based on; a mismatch is rejected with 409
 }
@@ -0,0 +1,10 @@
+package com.webapp.Tracker_pro.exception;
+
+/**
+ * Exception thrown when an update was based on a stale version of a resource.
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,7 @@
 package com.webapp.Tracker_pro.exception;
 
 import com.webapp.Tracker_pro.dto.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -69,6 +70,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Handle updates based on a stale version (explicit check or optimistic lock)
+     */
+    @ExceptionHandler({ConcurrentUpdateException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdate(Exception ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                false,
+                "The resource was modified by another user. Reload it and try again.",
+                HttpStatus.CONFLICT.value()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle resource not found exception
      */
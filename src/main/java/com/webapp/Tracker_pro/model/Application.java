@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -23,9 +25,13 @@ import java.time.LocalDateTime;
         @Index(name = "idx_application_career_post_id", columnList = "career_post_id"),
         @Index(name = "idx_application_status", columnList = "status"),
         @Index(name = "idx_application_applied_date", columnList = "applied_date"),
-        @Index(name = "idx_application_student_career", columnList = "student_id, career_post_id")
+        @Index(name = "idx_application_applied_date_id", columnList = "applied_date, id"),  // Keyset pagination
+        @Index(name = "idx_application_student_career", columnList = "student_id, career_post_id"),
+        @Index(name = "idx_application_student_status", columnList = "student_id, status"),  // Student dashboard counts
+        @Index(name = "idx_application_updated_at", columnList = "updated_at")  // ETag watermark
     }
 )
+@DynamicUpdate  // UPDATE only the changed columns
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -79,6 +85,14 @@ public class Application {
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic lock: concurrent writes of a stale copy fail instead of overwriting
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
     
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,49 @@
+package com.webapp.Tracker_pro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ApplicationStat Entity - persisted snapshot of application counts per career post and status
+ * Backs the in-memory counters used by the HR dashboard
+ */
+@Entity
+@Table(name = "application_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_application_stats_post_status",
+            columnNames = {"career_post_id", "status"}
+        )
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "career_post_id", nullable = false)
+    private Long careerPostId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
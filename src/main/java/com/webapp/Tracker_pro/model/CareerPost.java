@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -24,6 +26,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_career_post_created_by", columnList = "created_by")
     }
 )
+@DynamicUpdate  // UPDATE only the changed columns
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -54,7 +57,8 @@ public class CareerPost {
     @Column(nullable = false, length = 20)
     private String status; // Draft, Posted
 
-    @Column(name = "applications_count")
+    // Written only by atomic UPDATE statements in CareerPostRepository, never by entity saves
+    @Column(name = "applications_count", updatable = false)
     private Integer applicationsCount = 0;
 
     @Column(name = "created_by")
@@ -66,6 +70,14 @@ public class CareerPost {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock: concurrent writes of a stale copy fail instead of overwriting
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
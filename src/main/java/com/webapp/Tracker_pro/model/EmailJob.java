@@ -0,0 +1,44 @@
+package com.webapp.Tracker_pro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * EmailJob Entity - one bulk email request whose messages are queued in the email outbox
+ */
+@Entity
+@Table(name = "email_jobs",
+    indexes = {
+        @Index(name = "idx_email_job_created_at", columnList = "created_at")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Column(name = "total_recipients", nullable = false)
+    private Integer totalRecipients;
+
+    @Column(name = "created_by")
+    private Long createdBy;  // HR/Admin user ID
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
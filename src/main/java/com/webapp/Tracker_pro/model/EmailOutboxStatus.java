@@ -0,0 +1,11 @@
+package com.webapp.Tracker_pro.model;
+
+/**
+ * Enum for outbound email delivery states in the email outbox
+ */
+public enum EmailOutboxStatus {
+    PENDING,    // Waiting to be sent (new or scheduled for retry)
+    SENDING,    // Claimed by a worker
+    SENT,       // Delivered to the SMTP server
+    DEAD        // Gave up after the maximum number of attempts
+}
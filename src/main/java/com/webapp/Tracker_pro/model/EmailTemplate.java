@@ -0,0 +1,49 @@
+package com.webapp.Tracker_pro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * EmailTemplate Entity - editable email body that overrides the classpath template with the same key
+ * Every edit bumps the version so cached compiled templates are replaced
+ */
+@Entity
+@Table(name = "email_templates",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_email_template_key", columnNames = "template_key")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "template_key", nullable = false, length = 100)
+    private String templateKey;  // e.g. interview-invitation
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "is_html", nullable = false)
+    private Boolean isHtml;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Notification Entity for user notifications
@@ -13,19 +14,35 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "notifications",
     indexes = {
-        @Index(name = "idx_notification_user_id", columnList = "user_id"),
-        @Index(name = "idx_notification_user_type", columnList = "user_type"),
-        @Index(name = "idx_notification_is_read", columnList = "is_read"),
-        @Index(name = "idx_notification_created_at", columnList = "created_at")
+        // Serves the per-user list, unread count and mark-all-read from one index
+        @Index(name = "idx_notification_user_read_created", columnList = "user_id, user_type, is_read, created_at"),
+        @Index(name = "idx_notification_read_created", columnList = "is_read, created_at")  // Retention scan
     }
 )
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
+
+    /**
+     * IDs handed out per round trip to the id_generators table
+     * Table generation (unlike IDENTITY) lets Hibernate batch notification inserts
+     */
+    public static final int ID_ALLOCATION_SIZE = 500;
+    public static final String ID_GENERATOR_KEY = "notifications";
+
+    /**
+     * Single-column indexes replaced by idx_notification_user_read_created
+     */
+    public static final List<String> LEGACY_INDEXES = List.of(
+        "idx_notification_user_id", "idx_notification_user_type",
+        "idx_notification_is_read", "idx_notification_created_at");
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+    @TableGenerator(name = "notification_id", table = "id_generators",
+            pkColumnName = "gen_name", valueColumnName = "next_val",
+            pkColumnValue = ID_GENERATOR_KEY, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,53 @@
+package com.webapp.Tracker_pro.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read notifications moved out of the notifications table by the retention job
+ * Rows keep their original ID; archivedAt records when they were moved.
+ */
+@Entity
+@Table(name = "notifications_archive",
+    indexes = {
+        @Index(name = "idx_notification_archive_user", columnList = "user_id, user_type, created_at"),
+        @Index(name = "idx_notification_archive_archived_at", columnList = "archived_at")
+    }
+)
+@Data
+@NoArgsConstructor
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "user_type", nullable = false, length = 20)
+    private String userType;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "notification_type", length = 50)
+    private String notificationType;
+
+    @Column(name = "related_entity_id")
+    private Long relatedEntityId;
+
+    @Column(name = "is_read")
+    private Boolean isRead;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
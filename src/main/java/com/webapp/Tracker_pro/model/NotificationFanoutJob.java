@@ -0,0 +1,79 @@
+package com.webapp.Tracker_pro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * NotificationFanoutJob Entity - one background job that notifies every active student
+ * Progress is checkpointed by student ID so an interrupted job resumes where it stopped
+ * A post is announced at most once per notification type (unique key).
+ */
+@Entity
+@Table(name = "notification_fanout_jobs",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fanout_job_career_post_type", columnNames = {"career_post_id", "notification_type"})
+    },
+    indexes = {
+        @Index(name = "idx_fanout_job_status", columnList = "status")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "career_post_id", nullable = false)
+    private Long careerPostId;
+
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private String notificationType;  // NEW_INTERNSHIP
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationFanoutStatus status = NotificationFanoutStatus.QUEUED;
+
+    @Column(name = "total_recipients")
+    private Integer totalRecipients;  // Active students when the job started
+
+    @Column(name = "processed_recipients", nullable = false)
+    private Integer processedRecipients = 0;
+
+    @Column(name = "last_student_id")
+    private Long lastStudentId;  // Checkpoint: highest student ID already notified
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer attempts = 0;  // Times the job was started; resuming stops at the configured maximum
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.webapp.Tracker_pro.model;
+
+/**
+ * Enum for the states of a notification fan-out job
+ */
+public enum NotificationFanoutStatus {
+    QUEUED,     // Created, waiting for the background worker
+    RUNNING,    // Inserting notifications page by page
+    COMPLETED,  // Every recipient has been notified
+    FAILED,     // Stopped on an error; resumed on the next startup
+    ABANDONED   // Failed on every allowed attempt; no longer resumed
+}
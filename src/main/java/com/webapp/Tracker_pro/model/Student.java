@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,9 +26,11 @@ import java.util.List;
     },
     indexes = {
         @Index(name = "idx_student_email", columnList = "email"),
-        @Index(name = "idx_student_created_at", columnList = "created_at")
+        @Index(name = "idx_student_created_at", columnList = "created_at"),
+        @Index(name = "idx_student_updated_at", columnList = "updated_at")  // ETag watermark
     }
 )
+@DynamicUpdate  // UPDATE only the changed columns
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -100,6 +104,14 @@ public class Student implements UserDetails {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic lock: concurrent writes of a stale copy fail instead of overwriting
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
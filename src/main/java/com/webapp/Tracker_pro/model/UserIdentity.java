@@ -0,0 +1,64 @@
+package com.webapp.Tracker_pro.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * UserIdentity Entity - one row per account across admins, students and hr_faculty_users
+ * Lets login, registration checks and principal loading resolve an email or mobile
+ * number with a single indexed lookup instead of probing each table in turn.
+ * Maintained by UserIdentityService in the same transaction as the owning row.
+ */
+@Entity
+@Table(name = "user_identities",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_identity_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_user_identity_owner", columnNames = {"owner_table", "owner_id"})
+    },
+    indexes = {
+        @Index(name = "idx_user_identity_mobile", columnList = "mobile_no")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIdentity {
+
+    /**
+     * Table that holds the account; HR and FACULTY share hr_faculty_users
+     */
+    public enum OwnerTable {
+        ADMINS, STUDENTS, HR_FACULTY_USERS;
+
+        public static OwnerTable of(UserType userType) {
+            return switch (userType) {
+                case ADMIN -> ADMINS;
+                case STUDENT -> STUDENTS;
+                case HR, FACULTY -> HR_FACULTY_USERS;
+            };
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "mobile_no", length = 10)
+    private String mobileNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_type", nullable = false, length = 20)
+    private UserType userType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_table", nullable = false, length = 20)
+    private OwnerTable ownerTable;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+}
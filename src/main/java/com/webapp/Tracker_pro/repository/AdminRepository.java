@@ -1,9 +1,13 @@
 package com.webapp.Tracker_pro.repository;
 
 import com.webapp.Tracker_pro.model.Admin;
+import com.webapp.Tracker_pro.model.UserIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,4 +36,12 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
      * @return true if exists
      */
     boolean existsByMobileNo(String mobileNo);
+
+    /**
+     * Identity columns of admins that have no user_identities row (anti-join), used by the backfill
+     * Each row is [id, email, mobileNo]
+     */
+    @Query("SELECT a.id, a.email, a.mobileNo FROM Admin a WHERE NOT EXISTS " +
+           "(SELECT 1 FROM UserIdentity u WHERE u.ownerTable = :ownerTable AND u.ownerId = a.id) ORDER BY a.id")
+    List<Object[]> findUnindexedIdentityRows(@Param("ownerTable") UserIdentity.OwnerTable ownerTable);
 }
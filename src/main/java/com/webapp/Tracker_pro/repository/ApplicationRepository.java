@@ -1,11 +1,17 @@
 package com.webapp.Tracker_pro.repository;
 
+import com.webapp.Tracker_pro.dto.StudentApplicationRow;
 import com.webapp.Tracker_pro.model.Application;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,17 +19,22 @@ import java.util.Optional;
  * Repository for Application entity operations
  */
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationRepositoryCustom {
 
     /**
-     * Find all applications by student ID
+     * A student's applications as list rows joined with the career post, newest first
+     * The cover letter is never read; HR notes only for applications at the interview stage
+     *
+     * @param status Exact status, or null for all
      */
-    List<Application> findByStudentIdOrderByAppliedDateDesc(Long studentId);
-
-    /**
-     * Find applications by student ID and status
-     */
-    List<Application> findByStudentIdAndStatusOrderByAppliedDateDesc(Long studentId, String status);
+    @Query("SELECT new com.webapp.Tracker_pro.dto.StudentApplicationRow(a.id, a.careerPostId, a.status, a.appliedDate, " +
+           "a.resumeUrl, a.resumeFilename, a.additionalSkills, a.availability, a.expectedStipend, " +
+           "CASE WHEN a.status = 'Interview Scheduled' THEN a.hrNotes ELSE NULL END, a.reviewedDate, " +
+           "cp.title, cp.code, cp.workMode, cp.duration) " +
+           "FROM Application a LEFT JOIN CareerPost cp ON cp.id = a.careerPostId " +
+           "WHERE a.studentId = :studentId AND (:status IS NULL OR a.status = :status) " +
+           "ORDER BY a.appliedDate DESC, a.id DESC")
+    List<StudentApplicationRow> findListRowsByStudentId(@Param("studentId") Long studentId, @Param("status") String status);
 
     /**
      * Find all applications for a career post
@@ -40,6 +51,20 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     Optional<Application> findByStudentIdAndCareerPostId(Long studentId, Long careerPostId);
 
+    /**
+     * Load an application with its student, career post and reviewer name in one joined query
+     * Returns at most one row of [Application, Student, CareerPost, reviewer firstName, reviewer lastName];
+     * the entities are managed, so they can be updated in place. Missing relations are null.
+     *
+     * @param reviewerId Reviewer to resolve the name of, or null for the application's current reviewer
+     */
+    @Query("SELECT a, s, cp, h.firstName, h.lastName FROM Application a " +
+           "LEFT JOIN Student s ON s.id = a.studentId " +
+           "LEFT JOIN CareerPost cp ON cp.id = a.careerPostId " +
+           "LEFT JOIN HRFacultyUser h ON h.id = COALESCE(:reviewerId, a.reviewedBy) " +
+           "WHERE a.id = :id")
+    List<Object[]> findDetailRow(@Param("id") Long id, @Param("reviewerId") Long reviewerId);
+
     /**
      * Count applications by student ID
      */
@@ -51,14 +76,16 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     long countByStudentIdAndStatus(Long studentId, String status);
 
     /**
-     * Count total applications for a career post
+     * Application counts per status for one student in a single query
+     * Each row is [status, count]
      */
-    long countByCareerPostId(Long careerPostId);
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.studentId = :studentId GROUP BY a.status")
+    List<Object[]> countByStatusForStudent(@Param("studentId") Long studentId);
 
     /**
-     * Find all applications by status
+     * Count total applications for a career post
      */
-    List<Application> findByStatusOrderByAppliedDateDesc(String status);
+    long countByCareerPostId(Long careerPostId);
 
     /**
      * Get applications with student and internship details
@@ -70,4 +97,48 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      * Count applications by status (useful for HR dashboard)
      */
     long countByStatus(String status);
+
+    /**
+     * Count applications grouped by career post and status
+     * Each row is [careerPostId, status, count]
+     */
+    @Query("SELECT a.careerPostId, a.status, COUNT(a) FROM Application a GROUP BY a.careerPostId, a.status")
+    List<Object[]> countGroupedByCareerPostAndStatus();
+
+    /**
+     * Load and lock (SELECT ... FOR UPDATE) the fields needed for bulk status side effects
+     * The lock holds until commit, so the statuses read here are still the ones the bulk
+     * UPDATE replaces. Rows are locked in ID order so overlapping bulk updates cannot deadlock.
+     * Each row is [id, careerPostId, studentId, status]
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id, a.careerPostId, a.studentId, a.status FROM Application a WHERE a.id IN :ids ORDER BY a.id")
+    List<Object[]> lockStatusRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Set status and review fields for a chunk of applications in a single statement
+     * Bumps the version so copies loaded before the bulk update fail their optimistic check
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status, a.reviewedBy = :reviewedBy, " +
+           "a.reviewedDate = :now, a.updatedAt = :now, a.version = a.version + 1 WHERE a.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") String status,
+                         @Param("reviewedBy") Long reviewedBy,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Count a set of students' applications grouped by career post and status
+     * Each row is [careerPostId, status, count]
+     */
+    @Query("SELECT a.careerPostId, a.status, COUNT(a) FROM Application a " +
+           "WHERE a.studentId IN :studentIds GROUP BY a.careerPostId, a.status")
+    List<Object[]> countGroupedByCareerPostAndStatusForStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Delete every application of a set of students in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Application a WHERE a.studentId IN :studentIds")
+    int deleteByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
 }
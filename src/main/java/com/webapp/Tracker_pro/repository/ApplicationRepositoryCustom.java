@@ -0,0 +1,58 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.dto.ApplicationCursor;
+import com.webapp.Tracker_pro.dto.ApplicationSummaryRow;
+import com.webapp.Tracker_pro.dto.HRApplicationFilter;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom query fragment for Application repository
+ * Implemented with the Criteria API in ApplicationRepositoryImpl
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Find one keyset page of application summaries ordered by applied date and ID (newest first)
+     * Student and career post columns are joined in the same query; large text columns are not read.
+     *
+     * @param filter Filter criteria, applied in SQL
+     * @param after Cursor of the last row of the previous page, null for the first page
+     * @param limit Maximum number of rows to return
+     * @return Summary rows strictly after the cursor
+     */
+    List<ApplicationSummaryRow> findSummaryPage(HRApplicationFilter filter, ApplicationCursor after, int limit);
+
+    /**
+     * Find all application summaries matching a filter, newest first
+     *
+     * @param filter Filter criteria, applied in SQL
+     * @return Summary rows
+     */
+    List<ApplicationSummaryRow> findSummaries(HRApplicationFilter filter);
+
+    /**
+     * Find the ID that ends an export chunk: the limit-th matching application after afterId
+     *
+     * @param filter Filter criteria, applied in SQL
+     * @param afterId Exclusive lower ID bound, null to start from the beginning
+     * @param limit Chunk size
+     * @return ID of the last application in the chunk, or null if fewer than limit rows remain
+     */
+    Long findExportChunkEnd(HRApplicationFilter filter, Long afterId, int limit);
+
+    /**
+     * Stream export rows joined with student and career post data, ordered by application ID
+     * Rows are read forward-only with a JDBC fetch size; the caller must close the stream.
+     * Row layout: application id, appliedDate, status; student id, firstName, lastName, email,
+     * mobileNo, location; career post id, code, title, workMode; application availability,
+     * expectedStipend, additionalSkills, resumeUrl, reviewedDate, hrNotes.
+     *
+     * @param filter Filter criteria, applied in SQL
+     * @param afterId Exclusive lower ID bound, null to start from the beginning
+     * @param upToId Inclusive upper ID bound, null for no bound
+     * @return Stream of row arrays
+     */
+    Stream<Object[]> streamExportRows(HRApplicationFilter filter, Long afterId, Long upToId);
+}
@@ -0,0 +1,202 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.dto.ApplicationCursor;
+import com.webapp.Tracker_pro.dto.ApplicationSummaryRow;
+import com.webapp.Tracker_pro.dto.HRApplicationFilter;
+import com.webapp.Tracker_pro.model.Application;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of ApplicationRepositoryCustom
+ * All filtering, ordering and page limiting happens in the database
+ */
+public class ApplicationRepositoryImpl implements ApplicationRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final char LIKE_ESCAPE = '!';  // Not a backslash: MySQL reads the literal '\' as an escaped quote
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicationSummaryRow> findSummaryPage(HRApplicationFilter filter, ApplicationCursor after, int limit) {
+        return entityManager.createQuery(summaryQuery(filter, after))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ApplicationSummaryRow> findSummaries(HRApplicationFilter filter) {
+        return entityManager.createQuery(summaryQuery(filter, null)).getResultList();
+    }
+
+    @Override
+    public Long findExportChunkEnd(HRApplicationFilter filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Application> app = query.from(Application.class);
+
+        List<Predicate> predicates = buildFilterPredicates(cb, query, app, filter);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(app.get("id"), afterId));
+        }
+
+        // Only primary keys are selected, so skipping to the chunk end stays cheap
+        query.select(app.get("id"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(app.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(limit - 1)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public Stream<Object[]> streamExportRows(HRApplicationFilter filter, Long afterId, Long upToId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Application> app = query.from(Application.class);
+
+        // Entity joins on the foreign key columns; rows are scalar tuples, never managed entities
+        Join<Application, Student> student = app.join(Student.class, JoinType.INNER);
+        student.on(cb.equal(student.get("id"), app.get("studentId")));
+        Join<Application, CareerPost> careerPost = app.join(CareerPost.class, JoinType.LEFT);
+        careerPost.on(cb.equal(careerPost.get("id"), app.get("careerPostId")));
+
+        List<Predicate> predicates = buildFilterPredicates(cb, query, app, filter);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(app.get("id"), afterId));
+        }
+        if (upToId != null) {
+            predicates.add(cb.lessThanOrEqualTo(app.get("id"), upToId));
+        }
+
+        query.select(cb.array(
+                        app.get("id"), app.get("appliedDate"), app.get("status"),
+                        student.get("id"), student.get("firstName"), student.get("lastName"),
+                        student.get("email"), student.get("mobileNo"), student.get("location"),
+                        careerPost.get("id"), careerPost.get("code"), careerPost.get("title"), careerPost.get("workMode"),
+                        app.get("availability"), app.get("expectedStipend"), app.get("additionalSkills"),
+                        app.get("resumeUrl"), app.get("reviewedDate"), app.get("hrNotes")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(app.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Summary rows newest first: application, student and career post columns in one
+     * constructor query, left-joined so rows with a missing student or post still appear
+     */
+    private CriteriaQuery<ApplicationSummaryRow> summaryQuery(HRApplicationFilter filter, ApplicationCursor after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicationSummaryRow> query = cb.createQuery(ApplicationSummaryRow.class);
+        Root<Application> app = query.from(Application.class);
+
+        Join<Application, Student> student = app.join(Student.class, JoinType.LEFT);
+        student.on(cb.equal(student.get("id"), app.get("studentId")));
+        Join<Application, CareerPost> careerPost = app.join(CareerPost.class, JoinType.LEFT);
+        careerPost.on(cb.equal(careerPost.get("id"), app.get("careerPostId")));
+
+        List<Predicate> predicates = buildFilterPredicates(cb, query, app, filter);
+
+        // Keyset condition: (applied_date, id) < (cursor.appliedDate, cursor.id)
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(app.get("appliedDate"), after.getAppliedDate()),
+                    cb.and(
+                            cb.equal(app.get("appliedDate"), after.getAppliedDate()),
+                            cb.lessThan(app.get("id"), after.getId()))));
+        }
+
+        return query.select(cb.construct(ApplicationSummaryRow.class,
+                        app.get("id"), app.get("status"), app.get("appliedDate"),
+                        app.get("resumeUrl"), app.get("resumeFilename"), app.get("additionalSkills"),
+                        app.get("availability"), app.get("expectedStipend"),
+                        app.get("reviewedBy"), app.get("reviewedDate"), app.get("version"),
+                        student.get("id"), student.get("firstName"), student.get("lastName"),
+                        student.get("email"), student.get("mobileNo"), student.get("gender"), student.get("dob"),
+                        student.get("fatherName"), student.get("location"), student.get("pincode"),
+                        careerPost.get("id"), careerPost.get("code"), careerPost.get("title"),
+                        careerPost.get("duration"), careerPost.get("workMode")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(app.get("appliedDate")), cb.desc(app.get("id")));
+    }
+
+    /**
+     * Build filter predicates shared by application list queries
+     * Search is a semi-join against students on name/email
+     */
+    static List<Predicate> buildFilterPredicates(CriteriaBuilder cb, CriteriaQuery<?> query,
+                                                 Root<Application> app, HRApplicationFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+
+        if (filter.hasStatus()) {
+            predicates.add(cb.equal(app.get("status"), filter.getStatus()));
+        }
+
+        if (filter.getInternshipId() != null) {
+            predicates.add(cb.equal(app.get("careerPostId"), filter.getInternshipId()));
+        }
+
+        if (filter.getDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(app.get("appliedDate"), filter.getDateFrom().atStartOfDay()));
+        }
+
+        if (filter.getDateTo() != null) {
+            predicates.add(cb.lessThan(app.get("appliedDate"), filter.getDateTo().plusDays(1).atStartOfDay()));
+        }
+
+        if (filter.hasSearch()) {
+            String pattern = "%" + escapeLike(filter.getSearch().trim().toLowerCase()) + "%";
+            Subquery<Long> students = query.subquery(Long.class);
+            Root<Student> student = students.from(Student.class);
+            students.select(student.get("id")).where(cb.or(
+                    cb.like(cb.lower(cb.concat(cb.concat(student.<String>get("firstName"), " "),
+                            cb.coalesce(student.<String>get("lastName"), ""))), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(student.<String>get("email")), pattern, LIKE_ESCAPE)));
+            predicates.add(app.get("studentId").in(students));
+        }
+
+        return predicates;
+    }
+
+    /**
+     * Escape LIKE wildcards so a search for "50%" or "a_b" matches those characters literally
+     */
+    static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length() + 8);
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
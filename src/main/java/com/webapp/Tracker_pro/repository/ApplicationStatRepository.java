@@ -0,0 +1,12 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.model.ApplicationStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for ApplicationStat snapshot rows
+ */
+@Repository
+public interface ApplicationStatRepository extends JpaRepository<ApplicationStat, Long> {
+}
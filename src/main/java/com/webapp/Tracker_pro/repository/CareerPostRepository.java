@@ -2,10 +2,12 @@ package com.webapp.Tracker_pro.repository;
 
 import com.webapp.Tracker_pro.model.CareerPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,4 +72,42 @@ public interface CareerPostRepository extends JpaRepository<CareerPost, Long> {
            "LOWER(cp.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(cp.code) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<CareerPost> searchByTitleOrCode(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Current applicationsCount of a post, without loading the entity
+     */
+    @Query("SELECT cp.applicationsCount FROM CareerPost cp WHERE cp.id = :id")
+    Optional<Integer> findApplicationsCountById(@Param("id") Long id);
+
+    /**
+     * Subtract a set of students' applications from each affected post's applicationsCount
+     * One aggregate UPDATE; must run before those applications are deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CareerPost cp SET cp.applicationsCount = cp.applicationsCount - " +
+           "(SELECT CAST(COUNT(a) AS Integer) FROM Application a WHERE a.careerPostId = cp.id AND a.studentId IN :studentIds) " +
+           "WHERE cp.id IN (SELECT a.careerPostId FROM Application a WHERE a.studentId IN :studentIds)")
+    int subtractApplicationsOfStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Atomically add delta to a post's applicationsCount (read-modify-write happens in the database)
+     * Deliberately leaves the version alone: the counter is not part of an admin's edit
+     * The count never goes below zero; returns 0 if the post is missing or the guard fails
+     * Clears the persistence context afterwards, so no loaded CareerPost keeps the old count
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CareerPost cp SET cp.applicationsCount = cp.applicationsCount + :delta " +
+           "WHERE cp.id = :id AND cp.applicationsCount + :delta >= 0")
+    int adjustApplicationsCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Reset applicationsCount to the real number of applications wherever the two differ
+     * @return Number of posts that were corrected
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CareerPost cp SET cp.applicationsCount = " +
+           "(SELECT CAST(COUNT(a) AS Integer) FROM Application a WHERE a.careerPostId = cp.id) " +
+           "WHERE cp.applicationsCount <> " +
+           "(SELECT CAST(COUNT(a) AS Integer) FROM Application a WHERE a.careerPostId = cp.id)")
+    int reconcileApplicationsCounts();
 }
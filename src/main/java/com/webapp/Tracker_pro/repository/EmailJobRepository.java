@@ -0,0 +1,12 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.model.EmailJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for EmailJob entity operations
+ */
+@Repository
+public interface EmailJobRepository extends JpaRepository<EmailJob, Long> {
+}
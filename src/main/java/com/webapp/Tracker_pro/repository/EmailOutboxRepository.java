@@ -0,0 +1,113 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.model.EmailOutbox;
+import com.webapp.Tracker_pro.model.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for EmailOutbox entity operations
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Lock pending messages that are due for delivery, oldest first
+     * Rows locked by another worker are skipped (FOR UPDATE SKIP LOCKED), so concurrent
+     * pollers pick disjoint batches. Must run inside the transaction that claims them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))  // -2 = SKIP LOCKED
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.PENDING " +
+           "AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt, o.id")
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claim messages for delivery under a token; only rows that are still PENDING are moved
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENDING, " +
+           "o.claimToken = :token, o.claimedAt = :now " +
+           "WHERE o.id IN :ids AND o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.PENDING")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    /**
+     * Messages a poll actually claimed: SENDING under its token
+     */
+    @Query("SELECT o FROM EmailOutbox o WHERE o.claimToken = :token " +
+           "AND o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENDING ORDER BY o.nextAttemptAt, o.id")
+    List<EmailOutbox> findClaimed(@Param("token") String token);
+
+    /**
+     * Mark a message as delivered
+     * Only applies while the message is still SENDING under the given claim token; returns 0
+     * if the claim was released as stale and the row handed to another worker meanwhile.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENT, " +
+           "o.attempts = o.attempts + 1, o.sentAt = :now, o.lastError = null " +
+           "WHERE o.id = :id AND o.claimToken = :token " +
+           "AND o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENDING")
+    int markSent(@Param("id") Long id, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a failed attempt and move the message to its next status (PENDING for retry or DEAD)
+     * Guarded by the claim token like {@link #markSent}; the claim is cleared.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = :status, o.attempts = o.attempts + 1, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error, o.claimToken = null " +
+           "WHERE o.id = :id AND o.claimToken = :token " +
+           "AND o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENDING")
+    int markFailed(@Param("id") Long id,
+                   @Param("token") String token,
+                   @Param("status") EmailOutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /**
+     * Put a message back in the queue without counting an attempt (e.g. rate limited)
+     * Guarded by the claim token like {@link #markSent}; the claim is cleared.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.PENDING, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.claimToken = null " +
+           "WHERE o.id = :id AND o.claimToken = :token " +
+           "AND o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENDING")
+    int defer(@Param("id") Long id, @Param("token") String token, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * Release messages stuck in SENDING since before the cutoff (their worker died mid-delivery)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.PENDING, " +
+           "o.claimToken = null " +
+           "WHERE o.status = com.webapp.Tracker_pro.model.EmailOutboxStatus.SENDING " +
+           "AND (o.claimedAt IS NULL OR o.claimedAt < :cutoff)")
+    int releaseStale(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Count messages of a job grouped by status
+     * Each row is [status, count]
+     */
+    @Query("SELECT o.status, COUNT(o) FROM EmailOutbox o WHERE o.jobId = :jobId GROUP BY o.status")
+    List<Object[]> countByJobGroupedByStatus(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,25 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.model.EmailTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for EmailTemplate entity operations
+ */
+@Repository
+public interface EmailTemplateRepository extends JpaRepository<EmailTemplate, Long> {
+
+    Optional<EmailTemplate> findByTemplateKey(String templateKey);
+
+    /**
+     * Current version of every stored template, used to detect edits without loading bodies
+     * Each row is [templateKey, version]
+     */
+    @Query("SELECT t.templateKey, t.version FROM EmailTemplate t")
+    List<Object[]> findAllVersions();
+}
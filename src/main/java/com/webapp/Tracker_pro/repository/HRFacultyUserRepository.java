@@ -1,6 +1,7 @@
 package com.webapp.Tracker_pro.repository;
 
 import com.webapp.Tracker_pro.model.HRFacultyUser;
+import com.webapp.Tracker_pro.model.UserIdentity;
 import com.webapp.Tracker_pro.model.UserType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -63,4 +64,12 @@ public interface HRFacultyUserRepository extends JpaRepository<HRFacultyUser, Lo
      * Find all active users
      */
     List<HRFacultyUser> findByIsActive(Boolean isActive);
+
+    /**
+     * Identity columns of HR/Faculty users that have no user_identities row (anti-join), used by the backfill
+     * Each row is [id, email, mobileNo, userType]
+     */
+    @Query("SELECT u.id, u.email, u.mobileNo, u.userType FROM HRFacultyUser u WHERE NOT EXISTS " +
+           "(SELECT 1 FROM UserIdentity i WHERE i.ownerTable = :ownerTable AND i.ownerId = u.id) ORDER BY u.id")
+    List<Object[]> findUnindexedIdentityRows(@Param("ownerTable") UserIdentity.OwnerTable ownerTable);
 }
@@ -0,0 +1,52 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.model.NotificationArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for archived notifications
+ */
+@Repository
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    /**
+     * Copy notifications into the archive in a single INSERT ... SELECT
+     * @return Number of rows archived
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO NotificationArchive (id, userId, userType, title, message, notificationType, " +
+           "relatedEntityId, isRead, createdAt, archivedAt) " +
+           "SELECT n.id, n.userId, n.userType, n.title, n.message, n.notificationType, " +
+           "n.relatedEntityId, n.isRead, n.createdAt, :archivedAt " +
+           "FROM Notification n WHERE n.id IN :ids")
+    int archive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * IDs of rows archived before a cutoff, oldest first
+     */
+    @Query("SELECT a.id FROM NotificationArchive a WHERE a.archivedAt < :cutoff ORDER BY a.archivedAt")
+    List<Long> findIdsArchivedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete archived rows by ID (one bounded batch per statement)
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationArchive a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete all archived notifications of a set of users in a single statement
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationArchive a WHERE a.userType = :userType AND a.userId IN :userIds")
+    int deleteByUserTypeAndUserIdIn(@Param("userType") String userType, @Param("userIds") Collection<Long> userIds);
+}
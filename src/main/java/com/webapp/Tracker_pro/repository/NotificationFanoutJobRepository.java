@@ -0,0 +1,36 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.model.NotificationFanoutJob;
+import com.webapp.Tracker_pro.model.NotificationFanoutStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for NotificationFanoutJob entity operations
+ */
+@Repository
+public interface NotificationFanoutJobRepository extends JpaRepository<NotificationFanoutJob, Long> {
+
+    boolean existsByCareerPostIdAndNotificationType(Long careerPostId, String notificationType);
+
+    Optional<NotificationFanoutJob> findFirstByCareerPostIdOrderByIdDesc(Long careerPostId);
+
+    List<NotificationFanoutJob> findByStatusIn(Collection<NotificationFanoutStatus> statuses);
+
+    /**
+     * Record progress after a page of notifications has been inserted
+     */
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.processedRecipients = j.processedRecipients + :processed, " +
+           "j.lastStudentId = :lastStudentId WHERE j.id = :id")
+    int recordProgress(@Param("id") Long id,
+                       @Param("processed") int processed,
+                       @Param("lastStudentId") Long lastStudentId);
+}
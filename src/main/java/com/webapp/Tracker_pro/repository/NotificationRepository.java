@@ -1,9 +1,16 @@
 package com.webapp.Tracker_pro.repository;
 
 import com.webapp.Tracker_pro.model.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,22 +20,63 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * Find all notifications for a user
+     * Find one page of a user's notifications
      */
-    List<Notification> findByUserIdAndUserTypeOrderByCreatedAtDesc(Long userId, String userType);
+    Page<Notification> findByUserIdAndUserType(Long userId, String userType, Pageable pageable);
 
     /**
-     * Find unread notifications for a user
+     * Find one page of a user's read or unread notifications
      */
-    List<Notification> findByUserIdAndUserTypeAndIsReadOrderByCreatedAtDesc(Long userId, String userType, Boolean isRead);
+    Page<Notification> findByUserIdAndUserTypeAndIsRead(Long userId, String userType, Boolean isRead, Pageable pageable);
+
+    /**
+     * Find a user's notifications created at or after a given time, oldest first
+     * Used to replay events a reconnecting notification stream missed
+     */
+    List<Notification> findByUserIdAndUserTypeAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+            Long userId, String userType, LocalDateTime since, Pageable pageable);
 
     /**
      * Count unread notifications for a user
      */
     long countByUserIdAndUserTypeAndIsRead(Long userId, String userType, Boolean isRead);
 
+    /**
+     * Mark all unread notifications of a user as read in a single statement
+     * @return Number of notifications updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.userId = :userId AND n.userType = :userType AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("userType") String userType);
+
+    /**
+     * IDs of read notifications created before a cutoff, oldest first (retention batches)
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.isRead = true AND n.createdAt < :cutoff ORDER BY n.createdAt")
+    List<Long> findReadIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Count read notifications created before a cutoff (retention backlog)
+     */
+    long countByIsReadAndCreatedAtBefore(Boolean isRead, LocalDateTime cutoff);
+
+    /**
+     * Delete notifications by ID in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Delete all notifications for a user
      */
     void deleteByUserIdAndUserType(Long userId, String userType);
+
+    /**
+     * Delete all notifications of a set of users in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.userType = :userType AND n.userId IN :userIds")
+    int deleteByUserTypeAndUserIdIn(@Param("userType") String userType, @Param("userIds") Collection<Long> userIds);
 }
@@ -2,8 +2,12 @@ package com.webapp.Tracker_pro.repository;
 
 import com.webapp.Tracker_pro.model.StudentDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,4 +41,11 @@ public interface StudentDocumentRepository extends JpaRepository<StudentDocument
      * Delete all documents for a student
      */
     void deleteByStudentId(Long studentId);
+
+    /**
+     * Delete all documents of a set of students in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StudentDocument d WHERE d.studentId IN :studentIds")
+    int deleteByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
 }
@@ -1,14 +1,23 @@
 package com.webapp.Tracker_pro.repository;
 
+import com.webapp.Tracker_pro.dto.StudentResponse;
 import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.model.UserIdentity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Student entity operations
@@ -37,16 +46,71 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     long countByCreatedAtAfter(LocalDateTime date);
 
     /**
-     * Search students by name or email
+     * All students as list rows, selecting only the columns StudentResponse needs
      */
-    @Query("SELECT s FROM Student s WHERE " +
+    @Query("SELECT new com.webapp.Tracker_pro.dto.StudentResponse(s.id, s.firstName, s.lastName, s.email, " +
+           "s.mobileNo, s.gender, s.dob, s.age, s.location, s.isActive, s.createdAt, 'Student') " +
+           "FROM Student s ORDER BY s.id")
+    List<StudentResponse> findAllSummaries();
+
+    /**
+     * Search students by name or email, selecting only the columns StudentResponse needs
+     */
+    @Query("SELECT new com.webapp.Tracker_pro.dto.StudentResponse(s.id, s.firstName, s.lastName, s.email, " +
+           "s.mobileNo, s.gender, s.dob, s.age, s.location, s.isActive, s.createdAt, 'Student') " +
+           "FROM Student s WHERE " +
            "LOWER(s.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(s.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(s.email) LIKE LOWER(CONCAT('%', :search, '%'))")
-    List<Student> searchStudents(@Param("search") String search);
+           "LOWER(s.email) LIKE LOWER(CONCAT('%', :search, '%')) " +
+           "ORDER BY s.id")
+    List<StudentResponse> searchSummaries(@Param("search") String search);
 
     /**
      * Find all active students
      */
     List<Student> findByIsActive(Boolean isActive);
+
+    /**
+     * Identity columns of students that have no user_identities row (anti-join), used by the backfill
+     * Each row is [id, email, mobileNo]
+     */
+    @Query("SELECT s.id, s.email, s.mobileNo FROM Student s WHERE NOT EXISTS " +
+           "(SELECT 1 FROM UserIdentity u WHERE u.ownerTable = :ownerTable AND u.ownerId = s.id) ORDER BY s.id")
+    List<Object[]> findUnindexedIdentityRows(@Param("ownerTable") UserIdentity.OwnerTable ownerTable);
+
+    /**
+     * Forward-only stream of all students for exports
+     * Must be consumed inside a read-only transaction and closed by the caller
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student s ORDER BY s.id")
+    Stream<Student> streamAllForExport();
+
+    /**
+     * Load ID and email for a chunk of students (bulk delete side effects)
+     * Each row is [id, email]
+     */
+    @Query("SELECT s.id, s.email FROM Student s WHERE s.id IN :ids")
+    List<Object[]> findEmailRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete a chunk of students in a single statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Student s WHERE s.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count students by active flag
+     */
+    long countByIsActive(Boolean isActive);
+
+    /**
+     * One keyset page of active student IDs, used by notification fan-out
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.isActive = true AND s.id > :afterId ORDER BY s.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
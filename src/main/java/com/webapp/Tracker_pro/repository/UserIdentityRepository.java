@@ -0,0 +1,62 @@
+package com.webapp.Tracker_pro.repository;
+
+import com.webapp.Tracker_pro.dto.IdentityAccount;
+import com.webapp.Tracker_pro.model.UserIdentity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the unified user identity index
+ */
+@Repository
+public interface UserIdentityRepository extends JpaRepository<UserIdentity, Long> {
+
+    Optional<UserIdentity> findByEmail(String email);
+
+    /**
+     * Resolve an email and load its account in one query
+     * Each owner table is joined only when the identity points at it, so at most one account is set.
+     */
+    @Query("SELECT new com.webapp.Tracker_pro.dto.IdentityAccount(a, s, h) FROM UserIdentity u " +
+           "LEFT JOIN Admin a ON u.ownerTable = :admins AND a.id = u.ownerId " +
+           "LEFT JOIN Student s ON u.ownerTable = :students AND s.id = u.ownerId " +
+           "LEFT JOIN HRFacultyUser h ON u.ownerTable = :hrFacultyUsers AND h.id = u.ownerId " +
+           "WHERE u.email = :email")
+    Optional<IdentityAccount> findAccountByEmail(@Param("email") String email,
+                                                 @Param("admins") UserIdentity.OwnerTable admins,
+                                                 @Param("students") UserIdentity.OwnerTable students,
+                                                 @Param("hrFacultyUsers") UserIdentity.OwnerTable hrFacultyUsers);
+
+    default Optional<IdentityAccount> findAccountByEmail(String email) {
+        return findAccountByEmail(email, UserIdentity.OwnerTable.ADMINS, UserIdentity.OwnerTable.STUDENTS,
+                UserIdentity.OwnerTable.HR_FACULTY_USERS);
+    }
+
+    Optional<UserIdentity> findByOwnerTableAndOwnerId(UserIdentity.OwnerTable ownerTable, Long ownerId);
+
+    /**
+     * Identities that already use the email or the mobile number (one query for registration checks)
+     */
+    List<UserIdentity> findByEmailOrMobileNo(String email, String mobileNo);
+
+    /**
+     * Which of the given emails are already indexed, used by the startup backfill
+     */
+    @Query("SELECT u.email FROM UserIdentity u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Delete the identity rows of a set of accounts from one owner table
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserIdentity u WHERE u.ownerTable = :ownerTable AND u.ownerId IN :ownerIds")
+    int deleteByOwnerTableAndOwnerIdIn(@Param("ownerTable") UserIdentity.OwnerTable ownerTable,
+                                       @Param("ownerIds") Collection<Long> ownerIds);
+}
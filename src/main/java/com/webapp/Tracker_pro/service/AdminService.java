@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -129,11 +130,23 @@ public class AdminService {
      * Delete multiple students in a single transaction
      * 
      * @param ids List of student IDs to delete
+     * @return Per-ID outcome and dependent row counts
      */
     @Transactional
-    public void deleteMultipleStudents(List<Long> ids) {
+    public BulkDeleteStudentsResponse deleteMultipleStudents(List<Long> ids) {
         log.info("Deleting multiple students, count: {}", ids.size());
-        studentService.deleteMultipleStudents(ids);
+        return studentService.deleteMultipleStudents(ids);
+    }
+
+    /**
+     * Stream all student registrations to an export writer
+     * 
+     * @param writer Open writer using StudentService.EXPORT_COLUMNS
+     * @return Number of rows written
+     */
+    public long exportStudents(ExportWriter writer) throws IOException {
+        log.info("Exporting student registrations");
+        return studentService.exportStudents(writer);
     }
 
     // ==================== HR/Faculty User Management Operations ====================
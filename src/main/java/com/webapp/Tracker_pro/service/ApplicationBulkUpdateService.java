@@ -0,0 +1,124 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.BulkUpdateApplicationResponse;
+import com.webapp.Tracker_pro.model.Notification;
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Set-based engine for HR bulk status updates
+ *
+ * IDs are processed in chunks; each chunk costs one SELECT ... FOR UPDATE for the
+ * side-effect data and one JPQL UPDATE ... WHERE id IN (:chunk), so cost grows with the
+ * number of chunks rather than the number of rows. Counter updates and student
+ * notifications are collected per chunk and written as batches. The row locks keep a
+ * concurrent single-application update from changing a status between the read and
+ * the UPDATE, which would make the counter deltas and notifications describe the
+ * wrong transition.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationBulkUpdateService {
+
+    private final ApplicationRepository applicationRepository;
+    private final NotificationRepository notificationRepository;
+    private final ApplicationStatsService applicationStatsService;
+    private final StudentDashboardCache studentDashboardCache;
+    private final NotificationPushRegistry notificationPushRegistry;
+
+    @Value("${app.hr.bulk-update.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Update the status of many applications
+     *
+     * @param applicationIds Application IDs, duplicates are ignored
+     * @param status New (already validated) status
+     * @param hrUserId HR user ID performing the update
+     * @return Outcome with updated count and IDs that were not found
+     */
+    @Transactional
+    public BulkUpdateApplicationResponse updateStatus(List<Long> applicationIds, String status, Long hrUserId) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> notFoundIds = new ArrayList<>();
+        int updated = 0;
+        int chunks = 0;
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            chunks++;
+
+            // [id, careerPostId, studentId, status], locked until commit
+            List<Object[]> rows = applicationRepository.lockStatusRowsByIdIn(chunk);
+
+            Set<Long> found = new HashSet<>();
+            Set<Long> affectedStudents = new HashSet<>();
+            Map<Long, Map<String, Long>> movedFrom = new HashMap<>();
+            List<Notification> notifications = new ArrayList<>();
+
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                Long careerPostId = (Long) row[1];
+                Long studentId = (Long) row[2];
+                String previousStatus = (String) row[3];
+                found.add(id);
+
+                if (!status.equals(previousStatus)) {
+                    movedFrom.computeIfAbsent(careerPostId, k -> new HashMap<>())
+                            .merge(previousStatus, 1L, Long::sum);
+                    notifications.add(buildStatusNotification(studentId, id, status));
+                    affectedStudents.add(studentId);
+                }
+            }
+
+            if (!found.isEmpty()) {
+                updated += applicationRepository.bulkUpdateStatus(found, status, hrUserId, now);
+            }
+
+            chunk.stream().filter(id -> !found.contains(id)).forEach(notFoundIds::add);
+
+            // Batched side effects for this chunk
+            applicationStatsService.recordBulkStatusChange(movedFrom, status);
+            notificationPushRegistry.publishAll(notificationRepository.saveAll(notifications));
+            studentDashboardCache.evictAll(affectedStudents);
+
+            log.debug("Bulk update chunk {}: {} found, {} notifications", chunks, found.size(), notifications.size());
+        }
+
+        log.info("Bulk update to '{}' finished: {} of {} applications updated in {} chunk(s), {} not found",
+                status, updated, ids.size(), chunks, notFoundIds.size());
+
+        return BulkUpdateApplicationResponse.builder()
+                .requested(ids.size())
+                .updated(updated)
+                .chunks(chunks)
+                .notFoundIds(notFoundIds)
+                .build();
+    }
+
+    /**
+     * Build the student notification for a status change
+     */
+    private Notification buildStatusNotification(Long studentId, Long applicationId, String status) {
+        Notification notification = new Notification();
+        notification.setUserId(studentId);
+        notification.setUserType("STUDENT");
+        notification.setTitle("Application Status Updated");
+        notification.setMessage("Your application status has been updated to: " + status);
+        notification.setNotificationType("APPLICATION_STATUS");
+        notification.setRelatedEntityId(applicationId);
+        notification.setIsRead(false);
+        return notification;
+    }
+}
@@ -0,0 +1,318 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.ApplicationStat;
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.ApplicationStatRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incrementally maintained application counters for the HR dashboard
+ *
+ * Keeps a career post x status matrix of LongAdders in memory so dashboard reads
+ * never touch the applications table. Write paths report deltas after their
+ * transaction commits. The matrix is built from the applications table at startup and
+ * a scheduled job reconciles it against the table, logging any drift and persisting a
+ * fresh snapshot to application_stats (for reporting; it is never loaded back).
+ *
+ * Write paths hold the shared side of a read-write lock from just before their commit
+ * until their delta is applied. Reconciliation takes the exclusive side only twice,
+ * briefly: once to fix its read snapshot and start buffering deltas, and once to swap
+ * in the fresh matrix with the buffered deltas replayed on it. A write committed before
+ * the snapshot is in the count; one committed after it is in the buffer. The GROUP BY
+ * itself runs without the lock, so writers never wait for it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatsService {
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationStatRepository applicationStatRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // careerPostId -> status -> count; replaced as a whole by reconcile()
+    private volatile ConcurrentHashMap<Long, ConcurrentHashMap<String, LongAdder>> counters = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate snapshotTransaction;
+
+    // Deltas committed while a reconciliation is counting; null otherwise. Guarded by reconcileLock.
+    private volatile Queue<Delta> pending;
+
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile long lastDrift;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // Repeatable read: every query in the transaction sees the snapshot taken by its first read
+        snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshotTransaction.setReadOnly(true);
+    }
+
+    // ==================== Write Path ====================
+
+    /**
+     * Record a newly created application
+     */
+    public void recordCreated(Long careerPostId, String status) {
+        record(matrix -> adder(matrix, careerPostId, status).increment());
+    }
+
+    /**
+     * Record a deleted or withdrawn application
+     */
+    public void recordDeleted(Long careerPostId, String status) {
+        record(matrix -> adder(matrix, careerPostId, status).decrement());
+    }
+
+    /**
+     * Record a status transition of an existing application
+     */
+    public void recordStatusChange(Long careerPostId, String oldStatus, String newStatus) {
+        if (Objects.equals(oldStatus, newStatus)) {
+            return;
+        }
+        record(matrix -> {
+            adder(matrix, careerPostId, oldStatus).decrement();
+            adder(matrix, careerPostId, newStatus).increment();
+        });
+    }
+
+    /**
+     * Record a bulk status transition
+     *
+     * @param movedFrom careerPostId -> previous status -> number of applications moved
+     * @param newStatus Status all of them moved to
+     */
+    public void recordBulkStatusChange(Map<Long, Map<String, Long>> movedFrom, String newStatus) {
+        if (movedFrom.isEmpty()) {
+            return;
+        }
+        record(matrix -> movedFrom.forEach((careerPostId, byStatus) -> byStatus.forEach((oldStatus, count) -> {
+            if (!Objects.equals(oldStatus, newStatus)) {
+                adder(matrix, careerPostId, oldStatus).add(-count);
+                adder(matrix, careerPostId, newStatus).add(count);
+            }
+        })));
+    }
+
+    /**
+     * Record a bulk deletion of applications
+     *
+     * @param deleted careerPostId -> status -> number of applications deleted
+     */
+    public void recordBulkDeleted(Map<Long, Map<String, Long>> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        record(matrix -> deleted.forEach((careerPostId, byStatus) ->
+                byStatus.forEach((status, count) -> adder(matrix, careerPostId, status).add(-count))));
+    }
+
+    // ==================== Read Path ====================
+
+    /**
+     * Application counts per status across all career posts
+     */
+    public Map<String, Long> countsByStatus() {
+        Map<String, Long> result = new HashMap<>();
+        counters.values().forEach(byStatus -> byStatus.forEach(
+                (status, adder) -> result.merge(status, adder.sum(), Long::sum)));
+        return result;
+    }
+
+    /**
+     * Application counts per career post (posts with zero applications are omitted)
+     */
+    public Map<Long, Long> countsByCareerPost() {
+        Map<Long, Long> result = new HashMap<>();
+        counters.forEach((careerPostId, byStatus) -> {
+            long total = byStatus.values().stream().mapToLong(LongAdder::sum).sum();
+            if (total > 0) {
+                result.put(careerPostId, total);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Total number of applications
+     */
+    public long totalApplications() {
+        return counters.values().stream()
+                .flatMap(byStatus -> byStatus.values().stream())
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    public LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+
+    public long getLastDrift() {
+        return lastDrift;
+    }
+
+    // ==================== Load & Reconciliation ====================
+
+    /**
+     * Build the counters from the applications table
+     * The persisted snapshot is not trusted: writes made after it was taken would be missing
+     * until the first scheduled reconciliation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile(false);
+        log.info("Built application counters, total applications: {}", totalApplications());
+    }
+
+    /**
+     * Rebuild counters from the applications table, report drift and persist a fresh snapshot
+     * Writers are only held up while the read snapshot is fixed and while the fresh matrix is
+     * swapped in, never for the GROUP BY query.
+     */
+    @Scheduled(initialDelayString = "${app.stats.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${app.stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        reconcile(true);
+    }
+
+    private void reconcile(boolean reportDrift) {
+        ConcurrentHashMap<Long, ConcurrentHashMap<String, LongAdder>> fresh = new ConcurrentHashMap<>();
+        long drift = 0;
+
+        try {
+            List<Object[]> counts = snapshotTransaction.execute(status -> {
+                reconcileLock.writeLock().lock();
+                try {
+                    // The first read fixes the transaction's snapshot; no writer is mid-commit now
+                    applicationRepository.existsById(0L);
+                    pending = new ConcurrentLinkedQueue<>();
+                } finally {
+                    reconcileLock.writeLock().unlock();
+                }
+                return applicationRepository.countGroupedByCareerPostAndStatus();
+            });
+            for (Object[] row : counts) {
+                LongAdder adder = new LongAdder();
+                adder.add(((Number) row[2]).longValue());
+                fresh.computeIfAbsent((Long) row[0], id -> new ConcurrentHashMap<>()).put((String) row[1], adder);
+            }
+
+            reconcileLock.writeLock().lock();
+            try {
+                // Writes committed after the snapshot are missing from the count
+                pending.forEach(delta -> delta.applyTo(fresh));
+
+                if (reportDrift) {
+                    drift = drift(fresh, counters);
+                }
+                counters = fresh;
+                pending = null;
+            } finally {
+                reconcileLock.writeLock().unlock();
+            }
+        } finally {
+            // The count failed: stop buffering
+            if (pending != null) {
+                reconcileLock.writeLock().lock();
+                pending = null;
+                reconcileLock.writeLock().unlock();
+            }
+        }
+
+        List<ApplicationStat> rows = new ArrayList<>();
+        fresh.forEach((careerPostId, byStatus) -> byStatus.forEach((status, adder) -> {
+            ApplicationStat stat = new ApplicationStat();
+            stat.setCareerPostId(careerPostId);
+            stat.setStatus(status);
+            stat.setApplicationCount(adder.sum());
+            rows.add(stat);
+        }));
+        transactionTemplate.executeWithoutResult(tx -> {
+            applicationStatRepository.deleteAllInBatch();
+            applicationStatRepository.saveAll(rows);
+        });
+
+        lastDrift = drift;
+        lastReconciledAt = LocalDateTime.now();
+        log.info("Application stats reconciled: {} cells, total drift {}", rows.size(), drift);
+    }
+
+    /**
+     * Sum of differences over every cell present in either matrix, logging each one
+     */
+    private static long drift(Map<Long, ConcurrentHashMap<String, LongAdder>> expected,
+                              Map<Long, ConcurrentHashMap<String, LongAdder>> actual) {
+        long drift = 0;
+        Set<Long> careerPostIds = new HashSet<>(expected.keySet());
+        careerPostIds.addAll(actual.keySet());
+        for (Long careerPostId : careerPostIds) {
+            Map<String, LongAdder> expectedByStatus = expected.getOrDefault(careerPostId, new ConcurrentHashMap<>());
+            Map<String, LongAdder> actualByStatus = actual.getOrDefault(careerPostId, new ConcurrentHashMap<>());
+            Set<String> statuses = new HashSet<>(expectedByStatus.keySet());
+            statuses.addAll(actualByStatus.keySet());
+
+            for (String status : statuses) {
+                long expectedCount = sum(expectedByStatus.get(status));
+                long actualCount = sum(actualByStatus.get(status));
+                if (expectedCount != actualCount) {
+                    log.warn("Application stats drift for careerPost={} status='{}': counter off by {}",
+                            careerPostId, status, actualCount - expectedCount);
+                    drift += Math.abs(actualCount - expectedCount);
+                }
+            }
+        }
+        return drift;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static long sum(LongAdder adder) {
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Apply a delta after commit, and buffer it for the fresh matrix if a reconciliation is counting
+     */
+    private void record(Delta delta) {
+        TransactionCallbacks.afterCommit(reconcileLock.readLock(), () -> {
+            delta.applyTo(counters);
+            Queue<Delta> buffer = pending;
+            if (buffer != null) {
+                buffer.add(delta);
+            }
+        });
+    }
+
+    private static LongAdder adder(Map<Long, ConcurrentHashMap<String, LongAdder>> matrix, Long careerPostId, String status) {
+        return matrix.computeIfAbsent(careerPostId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(status, s -> new LongAdder());
+    }
+
+    /**
+     * A committed change to the counters, replayable on a fresh matrix
+     */
+    @FunctionalInterface
+    private interface Delta {
+        void applyTo(Map<Long, ConcurrentHashMap<String, LongAdder>> matrix);
+    }
+}
@@ -1,6 +1,7 @@
 package com.webapp.Tracker_pro.service;
 
 import com.webapp.Tracker_pro.dto.AuthResponse;
+import com.webapp.Tracker_pro.dto.IdentityAccount;
 import com.webapp.Tracker_pro.dto.LoginRequest;
 import com.webapp.Tracker_pro.dto.RegisterRequest;
 import com.webapp.Tracker_pro.exception.InvalidCredentialsException;
@@ -30,6 +31,7 @@ public class AuthService {
     private final AdminRepository adminRepository;
     private final StudentRepository studentRepository;
     private final HRFacultyUserRepository hrFacultyUserRepository;
+    private final UserIdentityService userIdentityService;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
 
@@ -43,19 +45,15 @@ public class AuthService {
         String email = request.getEmail().trim().toLowerCase();
         UserType userType = request.getUserType();
         
-        // Check if email already exists in any table
-        if (adminRepository.existsByEmail(email) || 
-            studentRepository.existsByEmail(email) || 
-            hrFacultyUserRepository.existsByEmail(email)) {
+        // Check email and mobile number against every account with one identity lookup
+        UserIdentityService.Conflict conflict =
+                userIdentityService.findConflict(email, request.getMobileNo(), userType, null);
+        if (conflict == UserIdentityService.Conflict.EMAIL) {
             throw new UserAlreadyExistsException(
                 "Email already registered. Please use a different email or login."
             );
         }
-
-        // Check if mobile number already exists
-        if (adminRepository.existsByMobileNo(request.getMobileNo()) ||
-            studentRepository.existsByMobileNo(request.getMobileNo()) ||
-            hrFacultyUserRepository.existsByMobileNo(request.getMobileNo())) {
+        if (conflict == UserIdentityService.Conflict.MOBILE) {
             throw new UserAlreadyExistsException(
                 "Mobile number already registered. Please use a different number."
             );
@@ -92,6 +90,7 @@ public class AuthService {
         admin.setIsActive(true);
 
         Admin savedAdmin = adminRepository.save(admin);
+        userIdentityService.save(UserType.ADMIN, savedAdmin.getId(), email, savedAdmin.getMobileNo());
         String jwtToken = jwtService.generateToken(savedAdmin);
 
         return AuthResponse.builder()
@@ -126,6 +125,7 @@ public class AuthService {
         student.setIsActive(true);
 
         Student savedStudent = studentRepository.save(student);
+        userIdentityService.save(UserType.STUDENT, savedStudent.getId(), email, savedStudent.getMobileNo());
         String jwtToken = jwtService.generateToken(savedStudent);
 
         return AuthResponse.builder()
@@ -161,6 +161,7 @@ public class AuthService {
         hrFacultyUser.setIsActive(true);
 
         HRFacultyUser savedHRFacultyUser = hrFacultyUserRepository.save(hrFacultyUser);
+        userIdentityService.save(userType, savedHRFacultyUser.getId(), email, savedHRFacultyUser.getMobileNo());
         String jwtToken = jwtService.generateToken(savedHRFacultyUser);
 
         return AuthResponse.builder()
@@ -181,6 +182,7 @@ public class AuthService {
     /**
      * Authenticate user and generate JWT token
      * Handles Admin, Student, HR, and Faculty authentication across normalized tables
+     * user_identities is joined with the owning table, so the account is loaded in one query
      * @param request Login request containing email and password
      * @return AuthResponse with JWT token and user information
      */
@@ -188,8 +190,11 @@ public class AuthService {
         String email = request.getEmail().trim().toLowerCase();
         String password = request.getPassword();
 
-        // Try Admin table first
-        Optional<Admin> adminOptional = adminRepository.findByEmail(email);
+        IdentityAccount account = userIdentityService.findAccountByEmail(email)
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
+
+        // Admin account
+        Optional<Admin> adminOptional = Optional.ofNullable(account.admin());
         if (adminOptional.isPresent()) {
             Admin admin = adminOptional.get();
             if (!passwordEncoder.matches(password, admin.getPassword())) {
@@ -211,8 +216,8 @@ public class AuthService {
                     .build();
         }
 
-        // Try Student table
-        Optional<Student> studentOptional = studentRepository.findByEmail(email);
+        // Student account
+        Optional<Student> studentOptional = Optional.ofNullable(account.student());
         if (studentOptional.isPresent()) {
             Student student = studentOptional.get();
             if (!passwordEncoder.matches(password, student.getPassword())) {
@@ -234,8 +239,8 @@ public class AuthService {
                     .build();
         }
 
-        // Try HR/Faculty table
-        Optional<HRFacultyUser> hrFacultyOptional = hrFacultyUserRepository.findByEmail(email);
+        // HR/Faculty account
+        Optional<HRFacultyUser> hrFacultyOptional = Optional.ofNullable(account.hrFacultyUser());
         if (hrFacultyOptional.isPresent()) {
             HRFacultyUser hrFacultyUser = hrFacultyOptional.get();
             if (!passwordEncoder.matches(password, hrFacultyUser.getPassword())) {
@@ -257,7 +262,7 @@ public class AuthService {
                     .build();
         }
 
-        // No user found in any table
+        // Identity points at a row that no longer exists
         throw new InvalidCredentialsException("Invalid email or password");
     }
 }
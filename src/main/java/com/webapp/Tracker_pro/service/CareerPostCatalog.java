@@ -0,0 +1,143 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.CatalogPost;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through cache of the published internship catalog
+ *
+ * Holds an immutable snapshot of all "Posted" career posts, newest first, with the
+ * same list pre-partitioned by work mode. Posts are copied into immutable
+ * {@link CatalogPost} records, so no caller can change what other readers see.
+ * Readers take the current snapshot with a single volatile read and never touch the
+ * database. CareerPostService calls
+ * {@link #refresh()} on create, update (including status toggles) and delete; once the
+ * transaction commits a new snapshot is loaded and swapped in whole (copy-on-write).
+ *
+ * Each snapshot has a version that is exposed as an ETag, so unchanged catalogs can be
+ * answered with 304. applicationsCount changes on every apply and withdraw, so it is
+ * left out of the snapshot (null) rather than cached stale; views that show it read the
+ * live column.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CareerPostCatalog {
+
+    private static final String POSTED = "Posted";
+
+    private final CareerPostRepository careerPostRepository;
+
+    // Distinguishes snapshot versions across restarts, so an old ETag never matches a new catalog
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    // ==================== Build & Maintenance ====================
+
+    /**
+     * Load the catalog and publish it as the current snapshot
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Serialised so a slow rebuild can never overwrite a newer one
+        rebuildLock.lock();
+        try {
+            List<CatalogPost> posted = careerPostRepository.findByStatusOrderByCreatedAtDesc(POSTED).stream()
+                    .map(post -> CatalogPost.of(post, null))
+                    .toList();
+            snapshot = Snapshot.of(versions.incrementAndGet(), epoch, posted);
+            log.info("Internship catalog snapshot {} built: {} posted internships", snapshot.version(), posted.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuild the catalog once the surrounding transaction commits
+     */
+    public void refresh() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * Current snapshot; built on first use if startup has not built it yet
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * Immutable view of the posted catalog
+     *
+     * @param version Monotonic snapshot version
+     * @param etag Strong ETag for responses built from this snapshot
+     * @param all Posted internships, newest first
+     * @param byWorkMode Same order, keyed by lower-case work mode
+     * @param byId Posted internships by ID
+     */
+    public record Snapshot(long version, String etag, List<CatalogPost> all,
+                           Map<String, List<CatalogPost>> byWorkMode, Map<Long, CatalogPost> byId) {
+
+        static Snapshot of(long version, String epoch, List<CatalogPost> posted) {
+            Map<String, List<CatalogPost>> partitions = new LinkedHashMap<>();
+            Map<Long, CatalogPost> byId = new HashMap<>();
+            for (CatalogPost post : posted) {
+                if (post.workMode() != null) {
+                    partitions.computeIfAbsent(post.workMode().toLowerCase(Locale.ROOT), mode -> new ArrayList<>()).add(post);
+                }
+                byId.put(post.id(), post);
+            }
+            Map<String, List<CatalogPost>> byWorkMode = new LinkedHashMap<>();
+            partitions.forEach((mode, posts) -> byWorkMode.put(mode, List.copyOf(posts)));
+
+            return new Snapshot(version, "\"catalog-" + epoch + "-" + version + "\"",
+                    List.copyOf(posted), Map.copyOf(byWorkMode), Map.copyOf(byId));
+        }
+
+        /**
+         * Posted internships for a work mode (null, empty or "all" for every mode), newest first
+         */
+        public List<CatalogPost> find(String workMode) {
+            if (workMode == null || workMode.isEmpty() || "all".equalsIgnoreCase(workMode)) {
+                return all;
+            }
+            return byWorkMode.getOrDefault(workMode.toLowerCase(Locale.ROOT), List.of());
+        }
+
+        /**
+         * Posted internships for ranked IDs, keeping the ranking order
+         */
+        public List<CatalogPost> findRanked(List<Long> ids) {
+            return ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over career posts
+ *
+ * Title, code, prerequisites and description are tokenised into lower-case words;
+ * every word is also indexed under its prefixes so partial words match. Queries are
+ * tokenised the same way, and a query matches a post when every query word matches;
+ * results are ranked by field-weighted score and then newest first. A query that is
+ * exactly a post's code (e.g. "INT-2024-01") ranks that post first. Status and work-mode filters are applied from the
+ * indexed document, so a search never touches the career_posts table.
+ *
+ * Built at startup and kept current by CareerPostService after each commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CareerPostSearchIndex {
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final float PREFIX_WEIGHT = 0.5f;
+
+    private static final float CODE_WEIGHT = 4f;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float PREREQUISITES_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float EXACT_CODE_BONUS = 100f;
+
+    private final CareerPostRepository careerPostRepository;
+
+    // term -> postId -> score
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    // postId -> indexed document
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    // lower-case code -> postId
+    private final Map<String, Long> postsByCode = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ==================== Build & Maintenance ====================
+
+    /**
+     * Build the index from the career_posts table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<IndexedPost> all = careerPostRepository.findAll().stream()
+                .map(IndexedPost::of)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            postsByCode.clear();
+            all.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Career post search index built: {} posts, {} terms", all.size(), postings.size());
+    }
+
+    /**
+     * Index a created or updated post once the surrounding transaction commits
+     */
+    public void index(CareerPost post) {
+        IndexedPost document = IndexedPost.of(post);
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(document.id());
+                add(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Remove a deleted post once the surrounding transaction commits
+     */
+    public void unindex(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(postId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * Search posts
+     *
+     * @param query Free-text query
+     * @param status Required status (e.g. "Posted"), or null for any
+     * @param workMode Required work mode (case-insensitive), or null/"all" for any
+     * @return Matching post IDs, best match first
+     */
+    public List<Long> search(String query, String status, String workMode) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String workModeFilter = workMode == null || workMode.isEmpty() || "all".equalsIgnoreCase(workMode)
+                ? null : workMode.toLowerCase();
+
+        lock.readLock().lock();
+        try {
+            // Start from the rarest term so the candidate set is as small as possible
+            terms.sort(Comparator.comparingInt(term -> postings.getOrDefault(term, Map.of()).size()));
+
+            Map<Long, Float> scores = null;
+            for (String term : terms) {
+                Map<Long, Float> matches = postings.get(term);
+                if (matches == null) {
+                    return List.of();
+                }
+                if (scores == null) {
+                    scores = new HashMap<>();
+                    for (Map.Entry<Long, Float> match : matches.entrySet()) {
+                        IndexedPost document = documents.get(match.getKey());
+                        if (accepts(document, status, workModeFilter)) {
+                            scores.put(match.getKey(), match.getValue());
+                        }
+                    }
+                } else {
+                    Iterator<Map.Entry<Long, Float>> it = scores.entrySet().iterator();
+                    while (it.hasNext()) {
+                        Map.Entry<Long, Float> candidate = it.next();
+                        Float score = matches.get(candidate.getKey());
+                        if (score == null) {
+                            it.remove();
+                        } else {
+                            candidate.setValue(candidate.getValue() + score);
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            Long exactCode = postsByCode.get(query.trim().toLowerCase());
+            if (exactCode != null) {
+                scores.computeIfPresent(exactCode, (id, score) -> score + EXACT_CODE_BONUS);
+            }
+
+            Map<Long, Float> ranked = scores;
+            Comparator<Long> byScore = Comparator.comparing(ranked::get, Comparator.<Float>reverseOrder());
+            Comparator<Long> byNewest = Comparator.comparing(
+                    id -> documents.get(id).createdAt(), Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+            List<Long> ids = new ArrayList<>(ranked.keySet());
+            ids.sort(byScore.thenComparing(byNewest));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean accepts(IndexedPost document, String status, String workMode) {
+        return document != null
+                && (status == null || status.equals(document.status()))
+                && (workMode == null || workMode.equals(document.workMode()));
+    }
+
+    /**
+     * Add a document; caller holds the write lock
+     */
+    private void add(IndexedPost document) {
+        document.termScores().forEach((term, score) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.id(), score));
+        documents.put(document.id(), document);
+        if (document.code() != null) {
+            postsByCode.put(document.code(), document.id());
+        }
+    }
+
+    /**
+     * Remove a document; caller holds the write lock
+     */
+    private void remove(Long postId) {
+        IndexedPost existing = documents.remove(postId);
+        if (existing == null) {
+            return;
+        }
+        if (existing.code() != null) {
+            postsByCode.remove(existing.code(), postId);
+        }
+        for (String term : existing.termScores().keySet()) {
+            Map<Long, Float> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(postId);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addField(Map<String, Float> termScores, String text, float weight) {
+        for (String token : tokenize(text)) {
+            termScores.merge(token, weight, Float::sum);
+            for (int length = MIN_PREFIX_LENGTH; length < token.length(); length++) {
+                termScores.merge(token.substring(0, length), weight * PREFIX_WEIGHT, Float::sum);
+            }
+        }
+    }
+
+    /**
+     * Split text into lower-case letter/digit words; used for documents and queries alike
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Filterable fields and weighted terms of one post
+     */
+    private record IndexedPost(Long id, String code, String status, String workMode, LocalDateTime createdAt,
+                               Map<String, Float> termScores) {
+
+        static IndexedPost of(CareerPost post) {
+            Map<String, Float> termScores = new HashMap<>();
+            addField(termScores, post.getCode(), CODE_WEIGHT);
+            addField(termScores, post.getTitle(), TITLE_WEIGHT);
+            addField(termScores, post.getPrerequisites(), PREREQUISITES_WEIGHT);
+            addField(termScores, post.getDescription(), DESCRIPTION_WEIGHT);
+
+            return new IndexedPost(post.getId(),
+                    post.getCode() != null ? post.getCode().trim().toLowerCase() : null,
+                    post.getStatus(),
+                    post.getWorkMode() != null ? post.getWorkMode().toLowerCase() : null,
+                    post.getCreatedAt(), termScores);
+        }
+    }
+}
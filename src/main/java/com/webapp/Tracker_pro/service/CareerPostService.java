@@ -8,10 +8,14 @@ import com.webapp.Tracker_pro.model.CareerPost;
 import com.webapp.Tracker_pro.repository.CareerPostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +27,27 @@ import java.util.stream.Collectors;
 public class CareerPostService {
 
     private final CareerPostRepository careerPostRepository;
+    private final CareerPostSearchIndex careerPostSearchIndex;
+    private final CareerPostCatalog careerPostCatalog;
+    private final NotificationFanoutService notificationFanoutService;
+
+    /**
+     * Correct any drift between applicationsCount and the applications table
+     * The counter is maintained with atomic increments, so this only repairs rows
+     * changed outside the application (manual SQL, restores, failed deployments).
+     */
+    @Scheduled(initialDelayString = "${app.career-posts.counter-reconcile-initial-delay-ms:120000}",
+               fixedDelayString = "${app.career-posts.counter-reconcile-interval-ms:3600000}")
+    @Transactional
+    public int reconcileApplicationsCounts() {
+        int corrected = careerPostRepository.reconcileApplicationsCounts();
+        if (corrected > 0) {
+            log.warn("Corrected applicationsCount drift on {} career post(s)", corrected);
+        } else {
+            log.debug("Career post applicationsCount reconciled, no drift");
+        }
+        return corrected;
+    }
 
     /**
      * Get all career posts
@@ -88,6 +113,11 @@ public class CareerPostService {
         post.setApplicationsCount(0);
 
         CareerPost savedPost = careerPostRepository.save(post);
+        careerPostSearchIndex.index(savedPost);
+        careerPostCatalog.refresh();
+        if ("Posted".equalsIgnoreCase(savedPost.getStatus())) {
+            notificationFanoutService.notifyNewInternship(savedPost);
+        }
         log.info("Career post created successfully with ID: {}", savedPost.getId());
 
         return mapToResponse(savedPost);
@@ -125,6 +155,8 @@ public class CareerPostService {
             throw new IllegalArgumentException("Work mode must be 'Online', 'Offline', or 'Hybrid'");
         }
 
+        boolean wasPosted = "Posted".equalsIgnoreCase(post.getStatus());
+
         post.setCode(request.getCode());
         post.setTitle(request.getTitle());
         post.setDuration(request.getDuration());
@@ -134,6 +166,11 @@ public class CareerPostService {
         post.setStatus(request.getStatus());
 
         CareerPost updatedPost = careerPostRepository.save(post);
+        careerPostSearchIndex.index(updatedPost);
+        careerPostCatalog.refresh();
+        if (!wasPosted && "Posted".equalsIgnoreCase(updatedPost.getStatus())) {
+            notificationFanoutService.notifyNewInternship(updatedPost);
+        }
         log.info("Career post updated successfully with ID: {}", updatedPost.getId());
 
         return mapToResponse(updatedPost);
@@ -151,6 +188,8 @@ public class CareerPostService {
                 .orElseThrow(() -> new ResourceNotFoundException("Career post not found with ID: " + id));
 
         careerPostRepository.delete(post);
+        careerPostSearchIndex.unindex(id);
+        careerPostCatalog.refresh();
         log.info("Career post deleted successfully with ID: {}", id);
     }
 
@@ -163,18 +202,35 @@ public class CareerPostService {
     }
 
     /**
-     * Search career posts
+     * Search career posts (any status) using the in-memory search index
      * @param searchTerm Search term
-     * @return List of matching posts
+     * @return List of matching posts, best match first
      */
     public List<CareerPostResponse> searchPosts(String searchTerm) {
         log.info("Searching career posts with term: {}", searchTerm);
-        List<CareerPost> posts = careerPostRepository.searchPosts(searchTerm);
+        List<CareerPost> posts = findRanked(careerPostSearchIndex.search(searchTerm, null, null));
         return posts.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Load posts by ID keeping the ranking order of the search index
+     * @param ids Ranked post IDs
+     * @return Posts in the same order
+     */
+    public List<CareerPost> findRanked(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CareerPost> byId = careerPostRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CareerPost::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Map CareerPost entity to CareerPostResponse DTO
      * @param post Career post entity
@@ -0,0 +1,237 @@
+package com.webapp.Tracker_pro.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Email template parsed once into a flat segment list
+ *
+ * Syntax:
+ *   {name}            placeholder, HTML-escaped when the template is HTML
+ *   {#name} ... {/name}  section rendered only when name has a non-empty value
+ *
+ * A brace not followed by an identifier (e.g. CSS rules) is plain text. A placeholder
+ * whose value is null is written back verbatim, so free-form bodies keep unknown tokens.
+ * Free-form bodies are parsed with {@link #compilePlain}, which only recognises
+ * placeholders and therefore never rejects the text.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class CompiledTemplate {
+
+    private static final byte TEXT = 0;
+    private static final byte VARIABLE = 1;
+    private static final byte SECTION = 2;
+    private static final byte SECTION_END = 3;
+
+    private final String id;
+    private final long version;
+    private final boolean html;
+
+    private final byte[] kinds;
+    private final String[] values;  // literal text or placeholder name
+    private final int[] jumps;      // for SECTION: index just past the matching SECTION_END
+    private final int literalLength;
+
+    private CompiledTemplate(String id, long version, boolean html,
+                             byte[] kinds, String[] values, int[] jumps, int literalLength) {
+        this.id = id;
+        this.version = version;
+        this.html = html;
+        this.kinds = kinds;
+        this.values = values;
+        this.jumps = jumps;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Parse a template source
+     *
+     * @param id Template key (for error messages and caching)
+     * @param version Template version
+     * @param source Template text
+     * @param html Whether placeholder values must be HTML-escaped
+     * @throws IllegalArgumentException if sections are not properly nested
+     */
+    public static CompiledTemplate compile(String id, long version, String source, boolean html) {
+        return parse(id, version, source, html, true);
+    }
+
+    /**
+     * Parse free-form text for placeholder substitution only
+     * Section tags are kept as literal text, so any input is accepted.
+     *
+     * @param source Text typed by a user
+     * @param html Whether placeholder values must be HTML-escaped
+     */
+    public static CompiledTemplate compilePlain(String source, boolean html) {
+        return parse("inline", 0L, source, html, false);
+    }
+
+    private static CompiledTemplate parse(String id, long version, String source, boolean html, boolean sections) {
+        List<Byte> kinds = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<Integer> jumps = new ArrayList<>();
+        Deque<Integer> openSections = new ArrayDeque<>();
+        int literalLength = 0;
+
+        int textStart = 0;
+        int i = 0;
+        while (i < source.length()) {
+            int open = source.indexOf('{', i);
+            if (open < 0) {
+                break;
+            }
+
+            int nameStart = open + 1;
+            byte kind = VARIABLE;
+            if (sections && nameStart < source.length() && (source.charAt(nameStart) == '#' || source.charAt(nameStart) == '/')) {
+                kind = source.charAt(nameStart) == '#' ? SECTION : SECTION_END;
+                nameStart++;
+            }
+            int nameEnd = identifierEnd(source, nameStart);
+            if (nameEnd == nameStart || nameEnd >= source.length() || source.charAt(nameEnd) != '}') {
+                i = open + 1;  // not a tag, keep as text
+                continue;
+            }
+
+            if (open > textStart) {
+                kinds.add(TEXT);
+                values.add(source.substring(textStart, open));
+                jumps.add(-1);
+                literalLength += open - textStart;
+            }
+
+            String name = source.substring(nameStart, nameEnd);
+            if (kind == SECTION_END) {
+                Integer sectionIndex = openSections.poll();
+                if (sectionIndex == null || !values.get(sectionIndex).equals(name)) {
+                    throw new IllegalArgumentException("Template '" + id + "': unexpected {/" + name + "}");
+                }
+                jumps.set(sectionIndex, kinds.size() + 1);
+            } else if (kind == SECTION) {
+                openSections.push(kinds.size());
+            }
+            kinds.add(kind);
+            values.add(name);
+            jumps.add(-1);
+
+            i = nameEnd + 1;
+            textStart = i;
+        }
+
+        if (!openSections.isEmpty()) {
+            throw new IllegalArgumentException("Template '" + id + "': unclosed {#" + values.get(openSections.peek()) + "}");
+        }
+        if (textStart < source.length()) {
+            kinds.add(TEXT);
+            values.add(source.substring(textStart));
+            jumps.add(-1);
+            literalLength += source.length() - textStart;
+        }
+
+        byte[] kindArray = new byte[kinds.size()];
+        int[] jumpArray = new int[jumps.size()];
+        for (int k = 0; k < kindArray.length; k++) {
+            kindArray[k] = kinds.get(k);
+            jumpArray[k] = jumps.get(k);
+        }
+        return new CompiledTemplate(id, version, html, kindArray, values.toArray(new String[0]), jumpArray, literalLength);
+    }
+
+    /**
+     * Render into a new buffer presized from the template's literal length
+     * (a per-thread buffer would not be reused on virtual threads)
+     *
+     * @param variables Placeholder lookup, e.g. Map::get
+     * @return Rendered text
+     */
+    public String render(Function<String, String> variables) {
+        StringBuilder buffer = new StringBuilder(literalLength + 64);
+        renderTo(buffer, variables);
+        return buffer.toString();
+    }
+
+    /**
+     * Render into a caller-supplied buffer
+     */
+    public void renderTo(StringBuilder out, Function<String, String> variables) {
+        out.ensureCapacity(out.length() + literalLength + 64);
+        int i = 0;
+        while (i < kinds.length) {
+            switch (kinds[i]) {
+                case TEXT -> out.append(values[i]);
+                case VARIABLE -> {
+                    String value = variables.apply(values[i]);
+                    if (value == null) {
+                        out.append('{').append(values[i]).append('}');
+                    } else if (html) {
+                        escapeHtml(value, out);
+                    } else {
+                        out.append(value);
+                    }
+                }
+                case SECTION -> {
+                    String value = variables.apply(values[i]);
+                    if (value == null || value.isEmpty()) {
+                        i = jumps[i];
+                        continue;
+                    }
+                }
+                default -> {
+                    // SECTION_END: nothing to write
+                }
+            }
+            i++;
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isHtml() {
+        return html;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static int identifierEnd(String source, int start) {
+        int i = start;
+        if (i < source.length() && Character.isLetter(source.charAt(i))) {
+            i++;
+            while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Append value with HTML special characters escaped, copying safe runs in one call
+     */
+    private static void escapeHtml(String value, StringBuilder out) {
+        int runStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String entity = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (entity != null) {
+                out.append(value, runStart, i).append(entity);
+                runStart = i + 1;
+            }
+        }
+        out.append(value, runStart, value.length());
+    }
+}
@@ -0,0 +1,74 @@
+package com.webapp.Tracker_pro.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cheap change watermarks for the main tables, used to validate cached responses
+ *
+ * A watermark is one aggregate row per table: row count and SUM(id) (change on insert
+ * and delete) and SUM(version) (changes on every update, since each update bumps the
+ * optimistic-lock version), plus any column that is written without bumping the version.
+ * Sums do not depend on commit order: a transaction that commits after a newer one
+ * still changes them, where MAX(id) or MAX(updated_at) would not. Values are cached for
+ * a short TTL, so however many clients poll, each table is aggregated at most once per TTL.
+ */
+@Service
+public class DataWatermarks {
+
+    /**
+     * Tables a response can depend on
+     */
+    public enum Source {
+        APPLICATIONS("Application", null),
+        CAREER_POSTS("CareerPost", "SUM(x.applicationsCount)"),  // Counter updates skip the version
+        STUDENTS("Student", null),
+        HR_USERS("HRFacultyUser", null);
+
+        private final String query;
+
+        Source(String entity, String extra) {
+            this.query = "SELECT COUNT(x), SUM(x.id), SUM(x.version)" + (extra != null ? ", " + extra : "")
+                    + " FROM " + entity + " x";
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.http.etag.watermark-ttl-ms:1000}")
+    private long ttlMs;
+
+    private final ConcurrentHashMap<Source, Cached> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Combined watermark of several sources, e.g. "APPLICATIONS=12|1830|57;STUDENTS=..."
+     */
+    public String of(Source... sources) {
+        return Arrays.stream(sources)
+                .map(source -> source.name() + "=" + get(source))
+                .collect(Collectors.joining(";"));
+    }
+
+    private String get(Source source) {
+        long now = System.currentTimeMillis();
+        Cached cached = cache.get(source);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        Object[] row = (Object[]) entityManager.createQuery(source.query).getSingleResult();
+        String value = Arrays.stream(row).map(String::valueOf).collect(Collectors.joining("|"));
+        cache.put(source, new Cached(value, now + ttlMs));
+        return value;
+    }
+
+    private record Cached(String value, long expiresAt) {
+    }
+}
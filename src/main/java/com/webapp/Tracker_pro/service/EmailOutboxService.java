@@ -0,0 +1,134 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.EmailJobStatusResponse;
+import com.webapp.Tracker_pro.dto.SendBulkEmailRequest;
+import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
+import com.webapp.Tracker_pro.model.EmailJob;
+import com.webapp.Tracker_pro.model.EmailOutbox;
+import com.webapp.Tracker_pro.model.EmailOutboxStatus;
+import com.webapp.Tracker_pro.repository.EmailJobRepository;
+import com.webapp.Tracker_pro.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for queueing outbound email in the email outbox
+ * Request threads only write rows here; EmailOutboxWorker performs delivery
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private static final String CANDIDATE_NAME = "candidateName";
+    private static final String DEFAULT_CANDIDATE_NAME = "Candidate";  // Used when a recipient has no name
+
+    private final EmailJobRepository emailJobRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailTemplateService emailTemplateService;
+
+    /**
+     * Queue a bulk email job, personalising the body for each recipient
+     *
+     * @param request Bulk email request with recipients, subject and body
+     * @param createdBy ID of the HR/Admin user creating the job
+     * @return Initial job status
+     */
+    @Transactional
+    public EmailJobStatusResponse enqueueBulk(SendBulkEmailRequest request, Long createdBy) {
+        EmailJob job = new EmailJob();
+        job.setSubject(request.getSubject());
+        job.setTotalRecipients(request.getRecipients().size());
+        job.setCreatedBy(createdBy);
+        EmailJob savedJob = emailJobRepository.save(job);
+
+        // Parse the body once; only the {candidateName} placeholder is personalised, the rest is the HR's text
+        CompiledTemplate template = emailTemplateService.compileInline(request.getBody(), false);
+
+        List<EmailOutbox> messages = new ArrayList<>(request.getRecipients().size());
+        for (SendBulkEmailRequest.RecipientInfo recipient : request.getRecipients()) {
+            String name = recipient.getName() != null && !recipient.getName().isBlank()
+                    ? recipient.getName().trim()
+                    : DEFAULT_CANDIDATE_NAME;
+            String personalizedBody = template.render(placeholder -> CANDIDATE_NAME.equals(placeholder) ? name : null);
+            messages.add(buildMessage(savedJob.getId(), recipient.getEmail(), request.getSubject(), personalizedBody, false));
+        }
+        emailOutboxRepository.saveAll(messages);
+
+        log.info("Queued email job {} with {} message(s)", savedJob.getId(), messages.size());
+        return getJobStatus(savedJob.getId());
+    }
+
+    /**
+     * Queue a single message that is not part of a job
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String body, boolean html) {
+        emailOutboxRepository.save(buildMessage(null, to, subject, body, html));
+    }
+
+    /**
+     * Get progress counts for a bulk email job
+     *
+     * @param jobId Job ID
+     * @return Job status with per-state counts
+     */
+    public EmailJobStatusResponse getJobStatus(Long jobId) {
+        EmailJob job = emailJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Email job not found with ID: " + jobId));
+
+        Map<EmailOutboxStatus, Long> counts = new EnumMap<>(EmailOutboxStatus.class);
+        for (Object[] row : emailOutboxRepository.countByJobGroupedByStatus(jobId)) {
+            counts.put((EmailOutboxStatus) row[0], ((Number) row[1]).longValue());
+        }
+
+        long pending = counts.getOrDefault(EmailOutboxStatus.PENDING, 0L);
+        long sending = counts.getOrDefault(EmailOutboxStatus.SENDING, 0L);
+        long sent = counts.getOrDefault(EmailOutboxStatus.SENT, 0L);
+        long failed = counts.getOrDefault(EmailOutboxStatus.DEAD, 0L);
+
+        String status;
+        if (pending + sending > 0) {
+            status = (sent + failed == 0 && sending == 0) ? "QUEUED" : "IN_PROGRESS";
+        } else {
+            status = failed > 0 ? "COMPLETED_WITH_ERRORS" : "COMPLETED";
+        }
+
+        return EmailJobStatusResponse.builder()
+                .jobId(job.getId())
+                .status(status)
+                .subject(job.getSubject())
+                .total(job.getTotalRecipients())
+                .pending(pending)
+                .sending(sending)
+                .sent(sent)
+                .failed(failed)
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+
+    private EmailOutbox buildMessage(Long jobId, String to, String subject, String body, boolean html) {
+        EmailOutbox message = new EmailOutbox();
+        message.setJobId(jobId);
+        message.setRecipient(to.trim());
+        message.setRecipientHost(hostOf(to));
+        message.setSubject(subject);
+        message.setBody(body);
+        message.setIsHtml(html);
+        message.setStatus(EmailOutboxStatus.PENDING);
+        message.setAttempts(0);
+        return message;
+    }
+
+    private String hostOf(String email) {
+        int at = email.lastIndexOf('@');
+        return at >= 0 ? email.substring(at + 1).trim().toLowerCase() : "unknown";
+    }
+}
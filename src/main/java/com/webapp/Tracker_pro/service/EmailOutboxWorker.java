@@ -0,0 +1,218 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.EmailOutbox;
+import com.webapp.Tracker_pro.model.EmailOutboxStatus;
+import com.webapp.Tracker_pro.repository.EmailOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Background worker that drains the email outbox
+ *
+ * Each poll locks a batch of due messages with FOR UPDATE SKIP LOCKED, claims them
+ * (PENDING -> SENDING) under a per-poll token, and delivers only the rows that carry
+ * that token on a fixed-size worker pool, one group of messages per pooled SMTP connection.
+ * Delivery to each recipient host is rate limited; failed messages are retried with exponential backoff and dead-lettered (DEAD)
+ * after the maximum number of attempts.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxWorker {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.mail.outbox.concurrency:4}")
+    private int concurrency;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.per-host-rate:5}")
+    private double perHostRate;
+
+    @Value("${app.mail.outbox.per-host-burst:10}")
+    private double perHostBurst;
+
+    @Value("${app.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.retry-base-delay-ms:30000}")
+    private long retryBaseDelayMs;
+
+    @Value("${app.mail.outbox.claim-timeout-ms:600000}")
+    private long claimTimeoutMs;
+
+    private ExecutorService workers;
+    private TransactionTemplate claimTransaction;
+    private HostRateLimiter rateLimiter;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        rateLimiter = new HostRateLimiter(perHostRate, perHostBurst);
+        claimTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Requeue messages whose claim is older than the claim timeout
+     * Other instances may be sending right now, so only stale claims are released,
+     * both at startup and periodically (a worker that died mid-batch never finishes its rows).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.mail.outbox.claim-timeout-ms:600000}",
+               initialDelayString = "${app.mail.outbox.claim-timeout-ms:600000}")
+    public void recoverInFlight() {
+        int released = emailOutboxRepository.releaseStale(LocalDateTime.now().minusNanos(claimTimeoutMs * 1_000_000));
+        if (released > 0) {
+            log.info("Released {} stale in-flight outbox message(s) back to PENDING", released);
+        }
+    }
+
+    /**
+     * Claim and deliver one batch of due messages
+     * Runs with a fixed delay so batches of one instance never overlap; batches of other
+     * instances skip the rows locked here and never see rows claimed here.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:2000}")
+    public void drain() {
+        List<EmailOutbox> due = claim();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // Split the batch into one group per worker; each group is sent over a single SMTP connection
+        int groupSize = (due.size() + concurrency - 1) / concurrency;
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(concurrency);
+        for (int from = 0; from < due.size(); from += groupSize) {
+            List<EmailOutbox> group = due.subList(from, Math.min(from + groupSize, due.size()));
+            deliveries.add(CompletableFuture.runAsync(() -> deliver(group), workers));
+        }
+        CompletableFuture.allOf(deliveries.toArray(new CompletableFuture<?>[0])).join();
+
+        log.debug("Outbox batch of {} message(s) processed", due.size());
+    }
+
+    /**
+     * Lock and claim a batch in one short transaction, then re-read the rows this poll owns
+     * Only rows moved to SENDING under this poll's token are returned, so a row another
+     * worker claimed in between is never delivered twice.
+     */
+    List<EmailOutbox> claim() {
+        String token = UUID.randomUUID().toString();
+        Integer claimed = claimTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = emailOutboxRepository.lockDue(now, PageRequest.of(0, batchSize)).stream()
+                    .map(EmailOutbox::getId)
+                    .collect(Collectors.toList());
+            return ids.isEmpty() ? 0 : emailOutboxRepository.claim(ids, token, now);
+        });
+        if (claimed == null || claimed == 0) {
+            return List.of();
+        }
+        return emailOutboxRepository.findClaimed(token);
+    }
+
+    /**
+     * Deliver a group of claimed messages over one pooled connection, respecting the per-host rate limit
+     */
+    private void deliver(List<EmailOutbox> group) {
+        List<EmailOutbox> ready = new ArrayList<>(group.size());
+        List<MimeMessage> mimeMessages = new ArrayList<>(group.size());
+
+        for (EmailOutbox message : group) {
+            long waitMs = rateLimiter.tryAcquire(message.getRecipientHost());
+            if (waitMs > 0) {
+                emailOutboxRepository.defer(message.getId(), message.getClaimToken(), LocalDateTime.now().plusNanos(waitMs * 1_000_000));
+                continue;
+            }
+            try {
+                mimeMessages.add(emailService.createMessage(message.getRecipient(), message.getSubject(),
+                        message.getBody(), Boolean.TRUE.equals(message.getIsHtml())));
+                ready.add(message);
+            } catch (Exception e) {
+                fail(message, e);
+            }
+        }
+
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        List<Exception> results = emailService.sendBatch(mimeMessages);
+        for (int i = 0; i < ready.size(); i++) {
+            EmailOutbox message = ready.get(i);
+            Exception failure = results.get(i);
+            if (failure == null) {
+                if (emailOutboxRepository.markSent(message.getId(), message.getClaimToken(), LocalDateTime.now()) == 0) {
+                    log.warn("Email {} was sent after its claim was released; it may be delivered twice", message.getId());
+                }
+            } else {
+                fail(message, failure);
+            }
+        }
+    }
+
+    /**
+     * Schedule a retry with exponential backoff, or dead-letter the message after the last attempt
+     */
+    private void fail(EmailOutbox message, Exception e) {
+        int attempt = message.getAttempts() + 1;
+        String error = rootMessage(e);
+        if (attempt >= maxAttempts) {
+            log.error("Dead-lettering email {} to {} after {} attempt(s): {}",
+                    message.getId(), message.getRecipient(), attempt, error);
+            emailOutboxRepository.markFailed(message.getId(), message.getClaimToken(), EmailOutboxStatus.DEAD, LocalDateTime.now(), error);
+        } else {
+            long backoffMs = retryBaseDelayMs << (attempt - 1);
+            log.warn("Email {} to {} failed (attempt {}), retrying in {} ms: {}",
+                    message.getId(), message.getRecipient(), attempt, backoffMs, error);
+            emailOutboxRepository.markFailed(message.getId(), message.getClaimToken(), EmailOutboxStatus.PENDING,
+                    LocalDateTime.now().plusNanos(backoffMs * 1_000_000), error);
+        }
+    }
+
+    private String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        String message = root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
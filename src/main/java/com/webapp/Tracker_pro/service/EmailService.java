@@ -5,13 +5,17 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Email Service for sending emails to candidates
@@ -26,7 +30,11 @@ import java.util.List;
 @Slf4j
 public class EmailService {
 
+    private static final String INTERVIEW_INVITATION_TEMPLATE = "interview-invitation";
+
     private final JavaMailSender mailSender;
+    private final SmtpTransportPool transportPool;
+    private final EmailTemplateService emailTemplateService;
 
     @Value("${app.mail.from}")
     private String fromEmail;
@@ -43,13 +51,7 @@ public class EmailService {
      */
     public void sendSimpleEmail(String to, String subject, String body) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            
-            mailSender.send(message);
+            sendPooled(createMessage(to, subject, body, false));
             log.info("Simple email sent successfully to: {}", to);
         } catch (Exception e) {
             log.error("Error sending simple email to {}: {}", to, e.getMessage());
@@ -66,15 +68,7 @@ public class EmailService {
      */
     public void sendHtmlEmail(String to, String subject, String htmlBody) {
         try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-            
-            helper.setFrom(fromEmail, fromName);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlBody, true); // true indicates HTML
-            
-            mailSender.send(mimeMessage);
+            sendPooled(createMessage(to, subject, htmlBody, true));
             log.info("HTML email sent successfully to: {}", to);
         } catch (Exception e) {
             log.error("Error sending HTML email to {}: {}", to, e.getMessage());
@@ -82,6 +76,48 @@ public class EmailService {
         }
     }
 
+    /**
+     * Build a message ready to be handed to {@link #sendBatch(List)}
+     *
+     * @param to Recipient email address
+     * @param subject Email subject
+     * @param body Email body
+     * @param html Whether the body is HTML
+     * @return Prepared MIME message
+     */
+    public MimeMessage createMessage(String to, String subject, String body, boolean html)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, html, "UTF-8");
+
+        if (html) {
+            helper.setFrom(fromEmail, fromName);
+        } else {
+            helper.setFrom(fromEmail);
+        }
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(body, html);
+        return mimeMessage;
+    }
+
+    /**
+     * Send a group of messages over pooled SMTP connections
+     *
+     * @param messages Prepared messages
+     * @return One entry per message: null when sent, otherwise the failure
+     */
+    public List<Exception> sendBatch(List<MimeMessage> messages) {
+        return transportPool.send(messages);
+    }
+
+    private void sendPooled(MimeMessage message) throws Exception {
+        Exception failure = transportPool.send(List.of(message)).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     /**
      * Send bulk emails to multiple recipients (async)
      * Each recipient gets an individual email
@@ -93,18 +129,7 @@ public class EmailService {
      */
     @Async
     public int sendBulkEmails(List<String> recipients, String subject, String body) {
-        int successCount = 0;
-        
-        for (String recipient : recipients) {
-            try {
-                sendSimpleEmail(recipient, subject, body);
-                successCount++;
-            } catch (Exception e) {
-                log.error("Failed to send email to {}: {}", recipient, e.getMessage());
-                // Continue with other recipients even if one fails
-            }
-        }
-        
+        int successCount = sendGrouped(recipients, subject, body, false);
         log.info("Bulk email operation completed: {}/{} emails sent successfully", 
                 successCount, recipients.size());
         return successCount;
@@ -120,20 +145,37 @@ public class EmailService {
      */
     @Async
     public int sendBulkHtmlEmails(List<String> recipients, String subject, String htmlBody) {
-        int successCount = 0;
-        
+        int successCount = sendGrouped(recipients, subject, htmlBody, true);
+        log.info("Bulk HTML email operation completed: {}/{} emails sent successfully", 
+                successCount, recipients.size());
+        return successCount;
+    }
+
+    /**
+     * Build one message per recipient and send them as a single pooled batch
+     * Failures are logged and do not stop the remaining recipients
+     */
+    private int sendGrouped(List<String> recipients, String subject, String body, boolean html) {
+        List<String> prepared = new ArrayList<>(recipients.size());
+        List<MimeMessage> messages = new ArrayList<>(recipients.size());
         for (String recipient : recipients) {
             try {
-                sendHtmlEmail(recipient, subject, htmlBody);
-                successCount++;
+                messages.add(createMessage(recipient, subject, body, html));
+                prepared.add(recipient);
             } catch (Exception e) {
-                log.error("Failed to send HTML email to {}: {}", recipient, e.getMessage());
-                // Continue with other recipients
+                log.error("Failed to build email to {}: {}", recipient, e.getMessage());
+            }
+        }
+
+        int successCount = 0;
+        List<Exception> results = sendBatch(messages);
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                successCount++;
+            } else {
+                log.error("Failed to send email to {}: {}", prepared.get(i), results.get(i).getMessage());
             }
         }
-        
-        log.info("Bulk HTML email operation completed: {}/{} emails sent successfully", 
-                successCount, recipients.size());
         return successCount;
     }
 
@@ -169,7 +211,7 @@ public class EmailService {
     }
 
     /**
-     * Build HTML template for interview invitation
+     * Render the interview-invitation template
      */
     private String buildInterviewInvitationHtml(
             String candidateName,
@@ -179,46 +221,19 @@ public class EmailService {
             String meetingLink,
             String hrManagerName) {
         
-        StringBuilder html = new StringBuilder();
-        html.append("<!DOCTYPE html>")
-            .append("<html><head><style>")
-            .append("body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }")
-            .append(".container { max-width: 600px; margin: 0 auto; padding: 20px; }")
-            .append(".header { background: #008BDC; color: white; padding: 20px; text-align: center; }")
-            .append(".content { padding: 20px; background: #f9f9f9; }")
-            .append(".details { background: white; padding: 15px; margin: 15px 0; border-left: 4px solid #008BDC; }")
-            .append(".detail-item { margin: 10px 0; }")
-            .append(".label { font-weight: bold; color: #008BDC; }")
-            .append(".button { display: inline-block; padding: 12px 30px; background: #008BDC; color: white; text-decoration: none; border-radius: 5px; margin: 15px 0; }")
-            .append(".footer { text-align: center; padding: 20px; color: #666; font-size: 12px; }")
-            .append("</style></head><body>")
-            .append("<div class='container'>")
-            .append("<div class='header'><h1>Interview Invitation</h1></div>")
-            .append("<div class='content'>")
-            .append("<p>Dear ").append(candidateName).append(",</p>")
-            .append("<p>Congratulations! We are pleased to invite you for an interview with our team.</p>")
-            .append("<div class='details'>")
-            .append("<div class='detail-item'><span class='label'>Date:</span> ").append(interviewDate).append("</div>")
-            .append("<div class='detail-item'><span class='label'>Time:</span> ").append(interviewTime).append("</div>")
-            .append("<div class='detail-item'><span class='label'>Mode:</span> ").append(interviewMode).append("</div>");
-        
-        if (meetingLink != null && !meetingLink.isEmpty() && interviewMode.equalsIgnoreCase("Online")) {
-            html.append("<div class='detail-item'><span class='label'>Meeting Link:</span> ")
-                .append("<a href='").append(meetingLink).append("'>").append(meetingLink).append("</a></div>");
-        }
-        
-        html.append("<div class='detail-item'><span class='label'>HR Manager:</span> ").append(hrManagerName).append("</div>")
-            .append("</div>")
-            .append("<p>Please confirm your availability for this interview. If you have any questions or need to reschedule, please contact us.</p>")
-            .append("<p>We look forward to speaking with you!</p>")
-            .append("<p>Best regards,<br/>").append(fromName).append("</p>")
-            .append("</div>")
-            .append("<div class='footer'>")
-            .append("<p>This is an automated email. Please do not reply to this email.</p>")
-            .append("</div>")
-            .append("</div></body></html>");
-        
-        return html.toString();
+        boolean showMeetingLink = meetingLink != null && !meetingLink.isEmpty() && "Online".equalsIgnoreCase(interviewMode);
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put("candidateName", candidateName);
+        variables.put("interviewDate", interviewDate);
+        variables.put("interviewTime", interviewTime);
+        variables.put("interviewMode", interviewMode);
+        variables.put("meetingLink", showMeetingLink ? meetingLink : null);
+        variables.put("hrManagerName", hrManagerName);
+        variables.put("fromName", fromName);
+
+        return emailTemplateService.get(INTERVIEW_INVITATION_TEMPLATE)
+                .render(name -> Objects.toString(variables.get(name), ""));
     }
 
     /**
@@ -235,8 +250,9 @@ public class EmailService {
             String subject,
             String body) {
         
-        // Replace placeholders in the body
-        String personalizedBody = body.replace("{candidateName}", candidateName);
+        // Fill placeholders in the body
+        String personalizedBody = emailTemplateService.compileInline(body, false)
+                .render(name -> "candidateName".equals(name) ? candidateName : null);
         
         sendSimpleEmail(candidateEmail, subject, personalizedBody);
         log.info("Application status email sent to: {}", candidateEmail);
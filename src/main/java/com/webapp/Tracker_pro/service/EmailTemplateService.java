@@ -0,0 +1,147 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
+import com.webapp.Tracker_pro.model.EmailTemplate;
+import com.webapp.Tracker_pro.repository.EmailTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Loads, compiles and caches email templates
+ *
+ * A template stored in the email_templates table overrides the classpath file
+ * email-templates/{key}.html (or .txt) with the same key. Compiled templates are
+ * cached by key together with their version; a scheduled check compares cached
+ * versions with the database so edits are picked up without a restart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailTemplateService {
+
+    private static final String CLASSPATH_LOCATION = "email-templates/";
+    private static final long CLASSPATH_VERSION = 0L;
+    private static final Pattern VALID_KEY = Pattern.compile("[a-z0-9][a-z0-9-]{0,99}");
+
+    private final EmailTemplateRepository emailTemplateRepository;
+
+    private final ConcurrentHashMap<String, CompiledTemplate> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Get the compiled template for a key
+     *
+     * @param templateKey Template key, e.g. interview-invitation
+     * @return Compiled template
+     * @throws ResourceNotFoundException if no template exists for the key
+     */
+    public CompiledTemplate get(String templateKey) {
+        return cache.computeIfAbsent(templateKey, this::load);
+    }
+
+    /**
+     * Parse an ad-hoc body (e.g. a bulk email typed by HR) for placeholder substitution; not cached
+     * Section syntax is not interpreted, so free-form text can never fail to parse.
+     */
+    public CompiledTemplate compileInline(String body, boolean html) {
+        return CompiledTemplate.compilePlain(body, html);
+    }
+
+    /**
+     * Create or replace the stored template for a key and evict the cached copy
+     *
+     * @param templateKey Template key
+     * @param body Template source
+     * @param html Whether the body is HTML
+     * @return Saved template with its new version
+     */
+    @Transactional
+    public EmailTemplate save(String templateKey, String body, boolean html) {
+        validateKey(templateKey);
+        // Reject templates that do not parse before storing them
+        CompiledTemplate.compile(templateKey, CLASSPATH_VERSION, body, html);
+
+        EmailTemplate template = emailTemplateRepository.findByTemplateKey(templateKey)
+                .orElseGet(() -> {
+                    EmailTemplate created = new EmailTemplate();
+                    created.setTemplateKey(templateKey);
+                    created.setVersion(CLASSPATH_VERSION);
+                    return created;
+                });
+        template.setVersion(template.getVersion() + 1);
+        template.setBody(body);
+        template.setIsHtml(html);
+
+        EmailTemplate saved = emailTemplateRepository.save(template);
+        cache.remove(templateKey);
+        TransactionCallbacks.afterCommit(() -> cache.remove(templateKey));  // a concurrent get() may reload the old row before commit
+        log.info("Email template '{}' saved as version {}", templateKey, saved.getVersion());
+        return saved;
+    }
+
+    /**
+     * Drop cached templates whose stored version changed (covers edits made on other instances)
+     */
+    @Scheduled(initialDelayString = "${app.mail.templates.refresh-interval-ms:30000}",
+               fixedDelayString = "${app.mail.templates.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (cache.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> versions = new HashMap<>();
+        for (Object[] row : emailTemplateRepository.findAllVersions()) {
+            versions.put((String) row[0], (Long) row[1]);
+        }
+
+        cache.forEach((key, template) -> {
+            long current = versions.getOrDefault(key, CLASSPATH_VERSION);
+            if (current != template.getVersion()) {
+                cache.remove(key, template);
+                log.info("Email template '{}' changed (version {} -> {}), reloading", key, template.getVersion(), current);
+            }
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private CompiledTemplate load(String templateKey) {
+        validateKey(templateKey);
+
+        EmailTemplate stored = emailTemplateRepository.findByTemplateKey(templateKey).orElse(null);
+        if (stored != null) {
+            return CompiledTemplate.compile(templateKey, stored.getVersion(), stored.getBody(), stored.getIsHtml());
+        }
+
+        for (String extension : new String[]{".html", ".txt"}) {
+            ClassPathResource resource = new ClassPathResource(CLASSPATH_LOCATION + templateKey + extension);
+            if (resource.exists()) {
+                try (InputStream in = resource.getInputStream()) {
+                    String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                    return CompiledTemplate.compile(templateKey, CLASSPATH_VERSION, source, ".html".equals(extension));
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read email template " + resource.getPath(), e);
+                }
+            }
+        }
+
+        throw new ResourceNotFoundException("Email template not found: " + templateKey);
+    }
+
+    private void validateKey(String templateKey) {
+        if (templateKey == null || !VALID_KEY.matcher(templateKey).matches()) {
+            throw new IllegalArgumentException("Invalid template key: " + templateKey);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.webapp.Tracker_pro.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Row-at-a-time writer for streaming exports
+ *
+ * Rows are written straight to the response stream, so memory use does not depend
+ * on the number of rows exported. Values may be String, Number, Boolean,
+ * LocalDateTime or null.
+ *
+ * XLSX is written as a minimal SpreadsheetML package with inline strings, streaming
+ * the sheet XML into the zip entry row by row (the same approach as POI's SXSSF,
+ * without holding a window of rows or a shared-strings table).
+ */
+public abstract class ExportWriter implements Closeable {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Whether the output is already compressed, so gzip would only add overhead
+         */
+        public boolean isCompressed() {
+            return this == XLSX;
+        }
+
+        /**
+         * Parse a format request parameter (case-insensitive)
+         * @throws IllegalArgumentException for unknown formats
+         */
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    /**
+     * Export column: key is used for NDJSON fields, label for the CSV header
+     */
+    public record Column(String key, String label) {
+    }
+
+    protected final List<Column> columns;
+    protected final Writer out;
+
+    protected ExportWriter(OutputStream out, List<Column> columns) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        this.columns = columns;
+    }
+
+    /**
+     * Open a writer for a format; the CSV/XLSX header row is written immediately
+     */
+    public static ExportWriter open(Format format, OutputStream out, List<Column> columns) throws IOException {
+        return open(format, out, columns, true);
+    }
+
+    /**
+     * Open a writer for a format
+     *
+     * @param header Whether to write the CSV header row; false for continuation chunks
+     *               so chunks can be appended to one file. XLSX always has a header.
+     */
+    public static ExportWriter open(Format format, OutputStream out, List<Column> columns, boolean header) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvWriter(out, columns, header);
+            case NDJSON -> new NdjsonWriter(out, columns);
+            case XLSX -> new XlsxWriter(new ZipOutputStream(out), columns);
+        };
+    }
+
+    /**
+     * Write one row; values are in column order
+     */
+    public abstract void writeRow(Object... values) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    protected static String format(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return DATE_TIME_FORMATTER.format(dateTime);
+        }
+        return String.valueOf(value);
+    }
+
+    // ==================== Implementations ====================
+
+    private static final class CsvWriter extends ExportWriter {
+
+        private CsvWriter(OutputStream out, List<Column> columns, boolean header) throws IOException {
+            super(out, columns);
+            if (!header) {
+                return;
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    this.out.write(',');
+                }
+                writeField(columns.get(i).label());
+            }
+            this.out.write("\r\n");
+        }
+
+        @Override
+        public void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                if (values[i] != null) {
+                    writeField(format(values[i]));
+                }
+            }
+            out.write("\r\n");
+        }
+
+        /**
+         * RFC 4180 quoting; a leading formula character is prefixed so spreadsheets do not evaluate it
+         */
+        private void writeField(String value) throws IOException {
+            boolean formula = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            if (formula) {
+                out.write('\'');
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+            out.write('"');
+        }
+    }
+
+    private static final class NdjsonWriter extends ExportWriter {
+
+        private NdjsonWriter(OutputStream out, List<Column> columns) {
+            super(out, columns);
+        }
+
+        @Override
+        public void writeRow(Object... values) throws IOException {
+            out.write('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeString(columns.get(i).key());
+                out.write(':');
+                Object value = values[i];
+                if (value == null) {
+                    out.write("null");
+                } else if (value instanceof Number || value instanceof Boolean) {
+                    out.write(value.toString());
+                } else {
+                    writeString(format(value));
+                }
+            }
+            out.write("}\n");
+        }
+
+        private void writeString(String value) throws IOException {
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+            out.write('"');
+        }
+    }
+
+    private static final class XlsxWriter extends ExportWriter {
+
+        private static final String CONTENT_TYPES = """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+                <Default Extension="xml" ContentType="application/xml"/>\
+                <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+                <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+                </Types>""";
+
+        private static final String ROOT_RELS = """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+                </Relationships>""";
+
+        private static final String WORKBOOK = """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+                <sheets><sheet name="Export" sheetId="1" r:id="rId1"/></sheets>\
+                </workbook>""";
+
+        private static final String WORKBOOK_RELS = """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>\
+                </Relationships>""";
+
+        private final ZipOutputStream zip;
+        private final String[] columnRefs;
+        private int rowNumber;
+
+        private XlsxWriter(ZipOutputStream zip, List<Column> columns) throws IOException {
+            super(zip, columns);
+            this.zip = zip;
+            this.columnRefs = new String[columns.size()];
+            for (int i = 0; i < columnRefs.length; i++) {
+                columnRefs[i] = columnRef(i);
+            }
+
+            writeEntry("[Content_Types].xml", CONTENT_TYPES);
+            writeEntry("_rels/.rels", ROOT_RELS);
+            writeEntry("xl/workbook.xml", WORKBOOK);
+            writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+
+            // The sheet entry stays open until close(); rows are appended as they arrive
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>");
+            out.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+            writeRow(columns.stream().map(Column::label).toArray());
+        }
+
+        @Override
+        public void writeRow(Object... values) throws IOException {
+            rowNumber++;
+            out.write("<row r=\"");
+            out.write(Integer.toString(rowNumber));
+            out.write("\">");
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                out.write("<c r=\"");
+                out.write(columnRefs[i]);
+                out.write(Integer.toString(rowNumber));
+                if (value instanceof Number) {
+                    out.write("\"><v>");
+                    out.write(value.toString());
+                    out.write("</v></c>");
+                } else if (value instanceof Boolean bool) {
+                    out.write("\" t=\"b\"><v>");
+                    out.write(bool ? "1" : "0");
+                    out.write("</v></c>");
+                } else {
+                    out.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                    writeText(format(value));
+                    out.write("</t></is></c>");
+                }
+            }
+            out.write("</row>");
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.write("</sheetData></worksheet>");
+            out.flush();
+            zip.closeEntry();
+            super.close();
+        }
+
+        private void writeEntry(String name, String content) throws IOException {
+            zip.putNextEntry(new ZipEntry(name));
+            out.write(content);
+            out.flush();
+            zip.closeEntry();
+        }
+
+        /**
+         * XML-escape text, dropping control characters that XML 1.0 cannot represent
+         */
+        private void writeText(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '<' -> out.write("&lt;");
+                    case '>' -> out.write("&gt;");
+                    case '&' -> out.write("&amp;");
+                    default -> {
+                        if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Spreadsheet column letters for a zero-based index (0 -> A, 26 -> AA)
+         */
+        private static String columnRef(int index) {
+            StringBuilder ref = new StringBuilder();
+            for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+                ref.insert(0, (char) ('A' + (n - 1) % 26));
+            }
+            return ref.toString();
+        }
+    }
+}
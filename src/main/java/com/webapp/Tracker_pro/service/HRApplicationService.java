@@ -1,19 +1,26 @@
 package com.webapp.Tracker_pro.service;
 
 import com.webapp.Tracker_pro.dto.*;
+import com.webapp.Tracker_pro.exception.ConcurrentUpdateException;
 import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
 import com.webapp.Tracker_pro.model.*;
 import com.webapp.Tracker_pro.repository.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for HR Application Management operations
@@ -26,11 +33,53 @@ import java.util.stream.Collectors;
 public class HRApplicationService {
 
     private final ApplicationRepository applicationRepository;
-    private final StudentRepository studentRepository;
     private final CareerPostRepository careerPostRepository;
-    private final HRFacultyUserRepository hrFacultyUserRepository;
+    private final ApplicationStatsService applicationStatsService;
+    private final StudentDashboardCache studentDashboardCache;
+    private final ApplicationBulkUpdateService applicationBulkUpdateService;
+    private final NotificationPushRegistry notificationPushRegistry;
+    private final PlatformTransactionManager transactionManager;
 
+    @Value("${app.hr.applications.default-page-size:50}")
+    private int defaultPageSize;
 
+    @Value("${app.hr.applications.max-page-size:200}")
+    private int maxPageSize;
+
+    @Value("${app.hr.export.max-chunk-size:50000}")
+    private int maxExportChunkSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Columns of the applications export, in the row order of
+     * {@link ApplicationRepository#streamExportRows}
+     */
+    public static final List<ExportWriter.Column> EXPORT_COLUMNS = List.of(
+            new ExportWriter.Column("applicationId", "Application ID"),
+            new ExportWriter.Column("appliedDate", "Applied On"),
+            new ExportWriter.Column("status", "Status"),
+            new ExportWriter.Column("studentId", "Student ID"),
+            new ExportWriter.Column("firstName", "First Name"),
+            new ExportWriter.Column("lastName", "Last Name"),
+            new ExportWriter.Column("email", "Email"),
+            new ExportWriter.Column("mobileNo", "Mobile"),
+            new ExportWriter.Column("location", "Location"),
+            new ExportWriter.Column("internshipId", "Internship ID"),
+            new ExportWriter.Column("internshipCode", "Internship Code"),
+            new ExportWriter.Column("internshipTitle", "Internship Title"),
+            new ExportWriter.Column("workMode", "Work Mode"),
+            new ExportWriter.Column("availability", "Availability"),
+            new ExportWriter.Column("expectedStipend", "Expected Stipend"),
+            new ExportWriter.Column("additionalSkills", "Additional Skills"),
+            new ExportWriter.Column("resumeUrl", "Resume URL"),
+            new ExportWriter.Column("reviewedDate", "Reviewed On"),
+            new ExportWriter.Column("hrNotes", "HR Notes"));
 
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
@@ -41,91 +90,97 @@ public class HRApplicationService {
     );
 
     /**
-     * Get all applications with optional filters
+     * Get one keyset page of applications with optional filters
+     * Filters, ordering and limit run in the database so memory per call is bounded by the page size
      * 
-     * @param search - Search by student name or email
-     * @param status - Filter by application status
-     * @param dateFrom - Filter applications from this date
-     * @param dateTo - Filter applications until this date
-     * @param internshipId - Filter by internship/career post ID
-     * @return List of HRApplicationSummaryResponse
+     * @param filter - Search, status, date range and internship filters
+     * @param cursor - Opaque cursor from the previous page ("nextCursor"), null for the first page
+     * @param limit - Requested page size, clamped to the configured maximum
+     * @return HRApplicationPageResponse with the page and the cursor for the next one
      */
-    public List<HRApplicationSummaryResponse> getAllApplications(
-            String search, String status, LocalDate dateFrom, LocalDate dateTo, Long internshipId) {
-        
-        log.info("Fetching applications with filters - search: '{}', status: '{}', dateFrom: {}, dateTo: {}, internshipId: {}",
-                search, status, dateFrom, dateTo, internshipId);
-
-        // Get all applications
-        List<Application> applications = applicationRepository.findAll();
-
-        // Apply filters
-        applications = applications.stream()
-            .filter(app -> {
-                // Filter by status
-                if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("all")) {
-                    if (!app.getStatus().equalsIgnoreCase(status)) {
-                        return false;
-                    }
-                }
-                
-                // Filter by internship ID
-                if (internshipId != null) {
-                    if (!app.getCareerPostId().equals(internshipId)) {
-                        return false;
-                    }
-                }
-                
-                // Filter by date range
-                if (dateFrom != null) {
-                    if (app.getAppliedDate().toLocalDate().isBefore(dateFrom)) {
-                        return false;
-                    }
-                }
-                if (dateTo != null) {
-                    if (app.getAppliedDate().toLocalDate().isAfter(dateTo)) {
-                        return false;
-                    }
-                }
-                
-                return true;
-            })
-            .sorted((a, b) -> b.getAppliedDate().compareTo(a.getAppliedDate()))  // Most recent first
-            .collect(Collectors.toList());
-
-        // Batch fetch students and career posts to avoid N+1 queries
-        Set<Long> studentIds = applications.stream()
-                .map(Application::getStudentId)
-                .collect(Collectors.toSet());
-        Set<Long> careerPostIds = applications.stream()
-                .map(Application::getCareerPostId)
-                .collect(Collectors.toSet());
-
-        Map<Long, Student> studentMap = studentRepository.findAllById(studentIds)
-                .stream()
-                .collect(Collectors.toMap(Student::getId, s -> s));
-        Map<Long, CareerPost> careerPostMap = careerPostRepository.findAllById(careerPostIds)
-                .stream()
-                .collect(Collectors.toMap(CareerPost::getId, cp -> cp));
+    @Transactional(readOnly = true)
+    public HRApplicationPageResponse getApplicationsPage(HRApplicationFilter filter, String cursor, Integer limit) {
+        log.info("Fetching applications page with filters - search: '{}', status: '{}', dateFrom: {}, dateTo: {}, internshipId: {}, cursor: {}, limit: {}",
+                filter.getSearch(), filter.getStatus(), filter.getDateFrom(), filter.getDateTo(),
+                filter.getInternshipId(), cursor, limit);
+
+        int pageSize = resolvePageSize(limit);
+        filter = normalizeFilter(filter);
+
+        // Fetch one extra row to know whether another page exists
+        // Student and internship columns are joined in the same query
+        List<ApplicationSummaryRow> rows = applicationRepository.findSummaryPage(
+                filter, ApplicationCursor.decode(cursor), pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
 
-        // Build response list and apply search filter
-        List<HRApplicationSummaryResponse> responses = applications.stream()
-                .map(app -> buildSummaryResponse(app, studentMap.get(app.getStudentId()), careerPostMap.get(app.getCareerPostId())))
-                .filter(response -> {
-                    // Apply search filter on student name/email
-                    if (search != null && !search.isEmpty()) {
-                        String searchLower = search.toLowerCase();
-                        String fullName = (response.getStudent().getFirstName() + " " + 
-                                          (response.getStudent().getLastName() != null ? response.getStudent().getLastName() : "")).toLowerCase();
-                        String email = response.getStudent().getEmail() != null ? response.getStudent().getEmail().toLowerCase() : "";
-                        return fullName.contains(searchLower) || email.contains(searchLower);
-                    }
-                    return true;
-                })
+        List<HRApplicationSummaryResponse> responses = rows.stream()
+                .map(this::buildSummaryResponse)
                 .collect(Collectors.toList());
 
-        log.info("Found {} applications matching filters", responses.size());
-        return responses;
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationSummaryRow last = rows.get(rows.size() - 1);
+            nextCursor = new ApplicationCursor(last.appliedDate(), last.id()).encode();
+        }
+
+        log.info("Returning {} applications (hasMore: {})", responses.size(), hasMore);
+        return HRApplicationPageResponse.builder()
+                .data(responses)
+                .limit(pageSize)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Find where an export chunk ends
+     * Chunks are ranges of application IDs, so a download can resume from the last ID it received
+     *
+     * @param filter - Same filters as the list endpoint
+     * @param afterId - Exclusive ID the chunk starts after, null for the first chunk
+     * @param limit - Requested chunk size, null to export everything after afterId
+     * @return Last application ID of the chunk, or null if the chunk runs to the end of the result
+     */
+    @Transactional(readOnly = true)
+    public Long findExportChunkEnd(HRApplicationFilter filter, Long afterId, Integer limit) {
+        if (limit == null) {
+            return null;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        filter = normalizeFilter(filter);
+        return applicationRepository.findExportChunkEnd(filter, afterId, Math.min(limit, maxExportChunkSize));
+    }
+
+    /**
+     * Stream applications joined with student and internship data to an export writer
+     * One forward-only query returns scalar rows, so nothing accumulates in the persistence
+     * context and memory use does not depend on the number of rows.
+     *
+     * @param filter - Same filters as the list endpoint
+     * @param afterId - Exclusive lower ID bound, null to start from the beginning
+     * @param upToId - Inclusive upper ID bound from {@link #findExportChunkEnd}, null for no bound
+     * @param writer - Open export writer using {@link #EXPORT_COLUMNS}
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportApplications(HRApplicationFilter filter, Long afterId, Long upToId,
+                                   ExportWriter writer) throws IOException {
+        filter = normalizeFilter(filter);
+        long rows = 0;
+        try (Stream<Object[]> stream = applicationRepository.streamExportRows(filter, afterId, upToId)) {
+            Iterator<Object[]> it = stream.iterator();
+            while (it.hasNext()) {
+                writer.writeRow(it.next());
+                rows++;
+            }
+        }
+        return rows;
     }
 
     /**
@@ -134,27 +189,12 @@ public class HRApplicationService {
      * @param id Application ID
      * @return HRApplicationDetailResponse
      */
+    @Transactional(readOnly = true)
     public HRApplicationDetailResponse getApplicationById(Long id) {
         log.info("Fetching application details for ID: {}", id);
 
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
-
-        Student student = studentRepository.findById(application.getStudentId())
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found for application"));
-
-        CareerPost careerPost = careerPostRepository.findById(application.getCareerPostId())
-                .orElse(null);
-
-        // Get reviewer name if exists
-        String reviewerName = null;
-        if (application.getReviewedBy() != null) {
-            reviewerName = hrFacultyUserRepository.findById(application.getReviewedBy())
-                    .map(user -> user.getFirstName() + " " + (user.getLastName() != null ? user.getLastName() : ""))
-                    .orElse(null);
-        }
-
-        return buildDetailResponse(application, student, careerPost, reviewerName);
+        ApplicationDetail detail = loadDetail(id, null);
+        return buildDetailResponse(detail.application(), detail.student(), detail.careerPost(), detail.reviewerName());
     }
 
     /**
@@ -163,42 +203,17 @@ public class HRApplicationService {
      * @param id Application ID
      * @param status New status
      * @param hrNotes Optional HR notes
+     * @param expectedVersion Optional version the update is based on
      * @param hrUserId HR user ID performing the update
      * @return Updated HRApplicationDetailResponse
      */
-    @Transactional
-    public HRApplicationDetailResponse updateApplicationStatus(Long id, String status, String hrNotes, Long hrUserId) {
+    public HRApplicationDetailResponse updateApplicationStatus(Long id, String status, String hrNotes,
+                                                               Long expectedVersion, Long hrUserId) {
         log.info("Updating application {} status to '{}' by HR user {}", id, status, hrUserId);
 
-        // Validate status
-        if (!VALID_STATUSES.contains(status)) {
-            throw new IllegalArgumentException("Invalid status: " + status + ". Valid statuses are: " + VALID_STATUSES);
-        }
-
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
-
-        // Get student details for email
-        Student student = studentRepository.findById(application.getStudentId())
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
-
-        // Get internship details
-        CareerPost careerPost = careerPostRepository.findById(application.getCareerPostId())
-                .orElse(null);
-
-        application.setStatus(status);
-        application.setReviewedBy(hrUserId);
-        application.setReviewedDate(LocalDateTime.now());
-
-        if (hrNotes != null && !hrNotes.isEmpty()) {
-            application.setHrNotes(hrNotes);
-        }
-
-        applicationRepository.save(application);
-        log.info("Application {} status updated successfully", id);
-
-
-        return getApplicationById(id);
+        // Notes are only replaced when provided with a status change
+        String notes = hrNotes != null && !hrNotes.isEmpty() ? hrNotes : null;
+        return patchApplication(id, new ApplicationPatchRequest(status, notes, expectedVersion), hrUserId);
     }
 
     /**
@@ -206,36 +221,57 @@ public class HRApplicationService {
      * 
      * @param id Application ID
      * @param hrNotes HR notes
+     * @param expectedVersion Optional version the update is based on
      * @param hrUserId HR user ID performing the update
      * @return Updated application
      */
-    @Transactional
-    public HRApplicationDetailResponse updateApplicationNotes(Long id, String hrNotes, Long hrUserId) {
+    public HRApplicationDetailResponse updateApplicationNotes(Long id, String hrNotes, Long expectedVersion, Long hrUserId) {
         log.info("Updating HR notes for application {} by HR user {}", id, hrUserId);
 
-        Application application = applicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
-
-        application.setHrNotes(hrNotes);
-        application.setReviewedBy(hrUserId);
-        application.setReviewedDate(LocalDateTime.now());
+        return patchApplication(id, new ApplicationPatchRequest(null, hrNotes != null ? hrNotes : "", expectedVersion), hrUserId);
+    }
 
-        applicationRepository.save(application);
-        log.info("Application {} notes updated successfully", id);
+    /**
+     * Partially update an application: only the fields present in the patch are changed,
+     * and dynamic update writes only the columns that actually changed.
+     *
+     * With an expected version the change is applied only if nobody has modified the
+     * application since. Without one, a write that loses an optimistic-lock race is not
+     * re-applied on fresh state (that would silently overwrite the other change); either
+     * way the caller gets a ConcurrentUpdateException and must re-read.
+     *
+     * @param id Application ID
+     * @param patch Fields to change and optional expected version
+     * @param hrUserId HR user ID performing the update
+     * @return Updated application
+     */
+    public HRApplicationDetailResponse patchApplication(Long id, ApplicationPatchRequest patch, Long hrUserId) {
+        if (patch.getStatus() != null && !VALID_STATUSES.contains(patch.getStatus())) {
+            throw new IllegalArgumentException("Invalid status: " + patch.getStatus() + ". Valid statuses are: " + VALID_STATUSES);
+        }
+        if (patch.getStatus() == null && patch.getHrNotes() == null) {
+            throw new IllegalArgumentException("Nothing to update: provide status and/or hrNotes");
+        }
 
-        return getApplicationById(id);
+        try {
+            HRApplicationDetailResponse updated = transactionTemplate.execute(tx -> applyPatch(id, patch, hrUserId));
+            log.info("Application {} updated successfully", id);
+            return updated;
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("Application " + id + " was modified by another user");
+        }
     }
 
     /**
      * Bulk update status for multiple applications
+     * Delegates to the set-based ApplicationBulkUpdateService (one UPDATE per chunk of IDs)
      * 
      * @param applicationIds List of application IDs
      * @param status New status
      * @param hrUserId HR user ID performing the update
-     * @return Number of updated applications
+     * @return Bulk update outcome with updated count and IDs that were not found
      */
-    @Transactional
-    public int bulkUpdateStatus(List<Long> applicationIds, String status, Long hrUserId) {
+    public BulkUpdateApplicationResponse bulkUpdateStatus(List<Long> applicationIds, String status, Long hrUserId) {
         log.info("Bulk updating {} applications to status '{}' by HR user {}", 
                 applicationIds.size(), status, hrUserId);
 
@@ -244,26 +280,7 @@ public class HRApplicationService {
             throw new IllegalArgumentException("Invalid status: " + status + ". Valid statuses are: " + VALID_STATUSES);
         }
 
-        int updatedCount = 0;
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Long appId : applicationIds) {
-            try {
-                Application application = applicationRepository.findById(appId).orElse(null);
-                if (application != null) {
-                    application.setStatus(status);
-                    application.setReviewedBy(hrUserId);
-                    application.setReviewedDate(now);
-                    applicationRepository.save(application);
-                    updatedCount++;
-                }
-            } catch (Exception e) {
-                log.warn("Failed to update application {}: {}", appId, e.getMessage());
-            }
-        }
-
-        log.info("Successfully updated {} out of {} applications", updatedCount, applicationIds.size());
-        return updatedCount;
+        return applicationBulkUpdateService.updateStatus(applicationIds, status, hrUserId);
     }
 
     /**
@@ -275,26 +292,13 @@ public class HRApplicationService {
     public List<HRApplicationSummaryResponse> getShortlistedApplications(String type) {
         log.info("Fetching shortlisted applications with type filter: '{}'", type);
 
-        List<Application> applications = applicationRepository.findByStatusOrderByAppliedDateDesc("Shortlisted");
-
-        // Batch fetch related data
-        Set<Long> studentIds = applications.stream()
-                .map(Application::getStudentId)
-                .collect(Collectors.toSet());
-        Set<Long> careerPostIds = applications.stream()
-                .map(Application::getCareerPostId)
-                .collect(Collectors.toSet());
-
-        Map<Long, Student> studentMap = studentRepository.findAllById(studentIds)
-                .stream()
-                .collect(Collectors.toMap(Student::getId, s -> s));
-        Map<Long, CareerPost> careerPostMap = careerPostRepository.findAllById(careerPostIds)
-                .stream()
-                .collect(Collectors.toMap(CareerPost::getId, cp -> cp));
+        // Student and internship columns are joined in the same query
+        List<ApplicationSummaryRow> rows = applicationRepository.findSummaries(
+                HRApplicationFilter.builder().status("Shortlisted").build());
 
         // Build response
-        List<HRApplicationSummaryResponse> responses = applications.stream()
-                .map(app -> buildSummaryResponse(app, studentMap.get(app.getStudentId()), careerPostMap.get(app.getCareerPostId())))
+        List<HRApplicationSummaryResponse> responses = rows.stream()
+                .map(this::buildSummaryResponse)
                 .collect(Collectors.toList());
 
         // Note: type filter ("Applied" vs "Imported") could be implemented 
@@ -306,21 +310,18 @@ public class HRApplicationService {
 
     /**
      * Get dashboard statistics
+     * Counts come from the in-memory ApplicationStatsService, so no application rows are read
      * 
      * @return HRDashboardStatsResponse
      */
     public HRDashboardStatsResponse getDashboardStatistics() {
         log.info("Fetching HR dashboard statistics");
 
-        List<Application> allApplications = applicationRepository.findAll();
-
         // Count by status
-        Map<String, Long> statusCounts = allApplications.stream()
-                .collect(Collectors.groupingBy(Application::getStatus, Collectors.counting()));
+        Map<String, Long> statusCounts = applicationStatsService.countsByStatus();
 
         // Group by internship
-        Map<Long, Long> internshipCounts = allApplications.stream()
-                .collect(Collectors.groupingBy(Application::getCareerPostId, Collectors.counting()));
+        Map<Long, Long> internshipCounts = applicationStatsService.countsByCareerPost();
 
         // Fetch career posts for names
         Map<Long, CareerPost> careerPostMap = careerPostRepository.findAllById(internshipCounts.keySet())
@@ -342,7 +343,7 @@ public class HRApplicationService {
                 .collect(Collectors.toList());
 
         HRDashboardStatsResponse stats = HRDashboardStatsResponse.builder()
-                .totalApplications(allApplications.size())
+                .totalApplications(applicationStatsService.totalApplications())
                 .pending(statusCounts.getOrDefault("Pending", 0L))
                 .underReview(statusCounts.getOrDefault("Under Review", 0L))
                 .shortlisted(statusCounts.getOrDefault("Shortlisted", 0L))
@@ -360,53 +361,150 @@ public class HRApplicationService {
 
     // ==================== Helper Methods ====================
 
+    /**
+     * Clamp requested page size to [1, maxPageSize], using the default when absent
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    /**
+     * Copy of the filter with a case-insensitive status replaced by the stored status value
+     * The caller's filter is left untouched.
+     */
+    private HRApplicationFilter normalizeFilter(HRApplicationFilter filter) {
+        return HRApplicationFilter.builder()
+                .search(filter.getSearch())
+                .status(filter.hasStatus() ? canonicalStatus(filter.getStatus()) : filter.getStatus())
+                .dateFrom(filter.getDateFrom())
+                .dateTo(filter.getDateTo())
+                .internshipId(filter.getInternshipId())
+                .build();
+    }
+
+    /**
+     * Map a case-insensitive status filter onto the stored status value
+     */
+    private String canonicalStatus(String status) {
+        return VALID_STATUSES.stream()
+                .filter(valid -> valid.equalsIgnoreCase(status))
+                .findFirst()
+                .orElse(status);
+    }
+
     /**
      * Build summary response for list views
      */
-    private HRApplicationSummaryResponse buildSummaryResponse(Application application, Student student, CareerPost careerPost) {
+    private HRApplicationSummaryResponse buildSummaryResponse(ApplicationSummaryRow row) {
+        boolean hasStudent = row.studentId() != null;
+        boolean hasCareerPost = row.careerPostId() != null;
+
         // Build student info
         HRApplicationSummaryResponse.StudentInfo studentInfo = HRApplicationSummaryResponse.StudentInfo.builder()
-                .id(student != null ? student.getId() : null)
-                .firstName(student != null ? student.getFirstName() : "Unknown")
-                .lastName(student != null ? student.getLastName() : "")
-                .email(student != null ? student.getEmail() : "")
-                .mobileNo(student != null ? student.getMobileNo() : "")
-                .gender(student != null ? student.getGender() : "")
-                .dob(student != null ? student.getDob() : "")
-                .fatherName(student != null ? (student.getFatherName() != null ? student.getFatherName() : "") : "")
-                .address(student != null ? student.getLocation() : "")  // Use location as address
-                .pincode(student != null ? (student.getPincode() != null ? student.getPincode() : "") : "")
+                .id(row.studentId())
+                .firstName(hasStudent ? row.firstName() : "Unknown")
+                .lastName(hasStudent ? row.lastName() : "")
+                .email(hasStudent ? row.email() : "")
+                .mobileNo(hasStudent ? row.mobileNo() : "")
+                .gender(hasStudent ? row.gender() : "")
+                .dob(hasStudent ? row.dob() : "")
+                .fatherName(row.fatherName() != null ? row.fatherName() : "")
+                .address(hasStudent ? row.location() : "")  // Use location as address
+                .pincode(row.pincode() != null ? row.pincode() : "")
                 .build();
 
         // Build internship info
         HRApplicationSummaryResponse.InternshipInfo internshipInfo = HRApplicationSummaryResponse.InternshipInfo.builder()
-                .id(careerPost != null ? careerPost.getId() : null)
-                .code(careerPost != null ? careerPost.getCode() : "N/A")
-                .title(careerPost != null ? careerPost.getTitle() : "N/A")
-                .duration(careerPost != null ? careerPost.getDuration() : null)
-                .workMode(careerPost != null ? careerPost.getWorkMode() : "")
+                .id(row.careerPostId())
+                .code(hasCareerPost ? row.code() : "N/A")
+                .title(hasCareerPost ? row.title() : "N/A")
+                .duration(row.duration())
+                .workMode(hasCareerPost ? row.workMode() : "")
                 .build();
 
         // Build application response
         return HRApplicationSummaryResponse.builder()
-                .id(application.getId())
-                .applicantId(generateApplicantId(application.getId()))
+                .id(row.id())
+                .applicantId(generateApplicantId(row.id()))
                 .student(studentInfo)
                 .internship(internshipInfo)
-                .status(application.getStatus())
-                .appliedDate(application.getAppliedDate() != null ? application.getAppliedDate().format(ISO_FORMATTER) : null)
-                .coverLetter(application.getCoverLetter())
-                .resumeUrl(application.getResumeUrl())
-                .resumeFilename(application.getResumeFilename())
-                .additionalSkills(application.getAdditionalSkills())
-                .availability(application.getAvailability())
-                .expectedStipend(application.getExpectedStipend())
-                .hrNotes(application.getHrNotes())
-                .reviewedBy(application.getReviewedBy())
-                .reviewedDate(application.getReviewedDate() != null ? application.getReviewedDate().format(ISO_FORMATTER) : null)
+                .status(row.status())
+                .appliedDate(row.appliedDate() != null ? row.appliedDate().format(ISO_FORMATTER) : null)
+                .resumeUrl(row.resumeUrl())
+                .resumeFilename(row.resumeFilename())
+                .additionalSkills(row.additionalSkills())
+                .availability(row.availability())
+                .expectedStipend(row.expectedStipend())
+                .reviewedBy(row.reviewedBy())
+                .reviewedDate(row.reviewedDate() != null ? row.reviewedDate().format(ISO_FORMATTER) : null)
+                .version(row.version())
                 .build();
     }
 
+    /**
+     * Apply a patch inside the current transaction; stats, cache and push side effects
+     * run only after commit, so a rolled-back attempt leaves no trace
+     * Two statements: the joined detail SELECT and the UPDATE of the changed columns.
+     * The response is built from the entities already loaded.
+     */
+    private HRApplicationDetailResponse applyPatch(Long id, ApplicationPatchRequest patch, Long hrUserId) {
+        // Resolve the name of the reviewer making this change, who becomes reviewedBy
+        ApplicationDetail detail = loadDetail(id, hrUserId);
+        Application application = detail.application();
+
+        if (patch.getVersion() != null && !patch.getVersion().equals(application.getVersion())) {
+            throw new ConcurrentUpdateException("Application " + id + " was modified by another user (version "
+                    + application.getVersion() + ", expected " + patch.getVersion() + ")");
+        }
+
+        String previousStatus = application.getStatus();
+        if (patch.getStatus() != null) {
+            application.setStatus(patch.getStatus());
+        }
+        if (patch.getHrNotes() != null) {
+            application.setHrNotes(patch.getHrNotes());
+        }
+        application.setReviewedBy(hrUserId);
+        application.setReviewedDate(LocalDateTime.now());
+
+        // Flush here so a version conflict surfaces as OptimisticLockingFailureException
+        applicationRepository.saveAndFlush(application);
+
+        String status = application.getStatus();
+        if (!status.equals(previousStatus)) {
+            applicationStatsService.recordStatusChange(application.getCareerPostId(), previousStatus, status);
+            notificationPushRegistry.publishStatusChange(application.getStudentId(), id, status);
+        }
+        studentDashboardCache.evict(application.getStudentId());
+
+        return buildDetailResponse(application, detail.student(), detail.careerPost(), detail.reviewerName());
+    }
+
+    /**
+     * Load an application with its student, career post and reviewer name in one query
+     *
+     * @param reviewerId Reviewer whose name to resolve, or null for the current reviewer
+     */
+    private ApplicationDetail loadDetail(Long id, Long reviewerId) {
+        Object[] row = applicationRepository.findDetailRow(id, reviewerId).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
+
+        Student student = (Student) row[1];
+        if (student == null) {
+            throw new ResourceNotFoundException("Student not found for application");
+        }
+
+        String reviewerName = null;
+        if (row[3] != null) {
+            reviewerName = row[3] + " " + (row[4] != null ? row[4] : "");
+        }
+        return new ApplicationDetail((Application) row[0], student, (CareerPost) row[2], reviewerName);
+    }
+
     /**
      * Build detailed response for single application view
      */
@@ -469,6 +567,7 @@ public class HRApplicationService {
                 .reviewedDate(application.getReviewedDate() != null ? application.getReviewedDate().format(ISO_FORMATTER) : null)
                 .createdAt(application.getCreatedAt() != null ? application.getCreatedAt().format(ISO_FORMATTER) : null)
                 .updatedAt(application.getUpdatedAt() != null ? application.getUpdatedAt().format(ISO_FORMATTER) : null)
+                .version(application.getVersion())
                 .build();
     }
 
@@ -478,4 +577,11 @@ public class HRApplicationService {
     private String generateApplicantId(Long id) {
         return "APID" + String.format("%03d", id);
     }
+
+    /**
+     * An application with the related rows its detail view needs
+     */
+    private record ApplicationDetail(Application application, Student student, CareerPost careerPost,
+                                     String reviewerName) {
+    }
 }
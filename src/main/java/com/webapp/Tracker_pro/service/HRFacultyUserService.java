@@ -26,6 +26,8 @@ public class HRFacultyUserService {
 
     private final HRFacultyUserRepository hrFacultyUserRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache principalCache;
+    private final UserIdentityService userIdentityService;
 
     /**
      * Get all HR/Faculty users with optional filter
@@ -70,15 +72,9 @@ public class HRFacultyUserService {
             throw new IllegalArgumentException("Only HR and FACULTY users can be created");
         }
 
-        // Check if email exists
-        if (hrFacultyUserRepository.existsByEmail(request.getEmail())) {
-            throw new UserAlreadyExistsException("User with email " + request.getEmail() + " already exists");
-        }
-
-        // Check if mobile exists
-        if (hrFacultyUserRepository.existsByMobileNo(request.getMobileNo())) {
-            throw new UserAlreadyExistsException("User with mobile number " + request.getMobileNo() + " already exists");
-        }
+        // Check if email or mobile is used by any account
+        UserType userType = UserType.valueOf(request.getUserType().toUpperCase());
+        checkIdentityAvailable(request, userType, null);
 
         HRFacultyUser user = new HRFacultyUser();
         user.setFirstName(request.getFirstName());
@@ -90,10 +86,11 @@ public class HRFacultyUserService {
         user.setDob(request.getDob());
         user.setAge(request.getAge());
         user.setLocation(request.getLocation());
-        user.setUserType(UserType.valueOf(request.getUserType().toUpperCase()));
+        user.setUserType(userType);
         user.setIsActive(true);
 
         HRFacultyUser savedUser = hrFacultyUserRepository.save(user);
+        userIdentityService.save(userType, savedUser.getId(), savedUser.getEmail(), savedUser.getMobileNo());
         log.info("User created successfully with ID: {}", savedUser.getId());
 
         return mapToResponse(savedUser);
@@ -109,17 +106,10 @@ public class HRFacultyUserService {
         HRFacultyUser user = hrFacultyUserRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
 
-        // Check if email is being changed and already exists
-        if (!user.getEmail().equals(request.getEmail()) && 
-            hrFacultyUserRepository.existsByEmail(request.getEmail())) {
-            throw new UserAlreadyExistsException("User with email " + request.getEmail() + " already exists");
-        }
+        // Check if a changed email or mobile is used by another account
+        checkIdentityAvailable(request, user.getUserType(), user.getId());
 
-        // Check if mobile is being changed and already exists
-        if (!user.getMobileNo().equals(request.getMobileNo()) && 
-            hrFacultyUserRepository.existsByMobileNo(request.getMobileNo())) {
-            throw new UserAlreadyExistsException("User with mobile number " + request.getMobileNo() + " already exists");
-        }
+        principalCache.evict(user.getEmail());
 
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
@@ -141,6 +131,9 @@ public class HRFacultyUserService {
         }
 
         HRFacultyUser updatedUser = hrFacultyUserRepository.save(user);
+        userIdentityService.save(updatedUser.getUserType(), updatedUser.getId(),
+                updatedUser.getEmail(), updatedUser.getMobileNo());
+        principalCache.evict(updatedUser.getEmail());
         log.info("User updated successfully with ID: {}", updatedUser.getId());
 
         return mapToResponse(updatedUser);
@@ -155,6 +148,8 @@ public class HRFacultyUserService {
         HRFacultyUser user = hrFacultyUserRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
         hrFacultyUserRepository.delete(user);
+        userIdentityService.remove(user.getUserType(), user.getId());
+        principalCache.evict(user.getEmail());
         log.info("User deleted successfully with ID: {}", id);
     }
 
@@ -168,6 +163,7 @@ public class HRFacultyUserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
         user.setIsActive(isEnabled);
         HRFacultyUser updatedUser = hrFacultyUserRepository.save(user);
+        principalCache.evict(updatedUser.getEmail());
         return mapToResponse(updatedUser);
     }
 
@@ -185,6 +181,20 @@ public class HRFacultyUserService {
         return hrFacultyUserRepository.countByUserType(UserType.FACULTY);
     }
 
+    /**
+     * Reject an email or mobile number that belongs to another account in any table
+     */
+    private void checkIdentityAvailable(CreateUserRequest request, UserType userType, Long userId) {
+        UserIdentityService.Conflict conflict = userIdentityService.findConflict(
+                request.getEmail(), request.getMobileNo(), userType, userId);
+        if (conflict == UserIdentityService.Conflict.EMAIL) {
+            throw new UserAlreadyExistsException("User with email " + request.getEmail() + " already exists");
+        }
+        if (conflict == UserIdentityService.Conflict.MOBILE) {
+            throw new UserAlreadyExistsException("User with mobile number " + request.getMobileNo() + " already exists");
+        }
+    }
+
     /**
      * Map HRFacultyUser entity to HRFacultyUserResponse DTO
      */
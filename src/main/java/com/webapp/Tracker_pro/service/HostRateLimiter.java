@@ -0,0 +1,53 @@
+package com.webapp.Tracker_pro.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket rate limiter keyed by recipient mail host
+ * Keeps outbound mail to a single provider (gmail.com, outlook.com, ...) under a fixed rate
+ */
+public class HostRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(double permitsPerSecond, double burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+    }
+
+    /**
+     * Try to take one permit for a host
+     *
+     * @param host Recipient host
+     * @return 0 if a permit was granted, otherwise the milliseconds until one is available
+     */
+    public long tryAcquire(String host) {
+        Bucket bucket = buckets.computeIfAbsent(host.toLowerCase(), h -> new Bucket(burst));
+        synchronized (bucket) {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - bucket.lastRefillNanos) / 1_000_000_000.0;
+            bucket.tokens = Math.min(burst, bucket.tokens + elapsedSeconds * permitsPerSecond);
+            bucket.lastRefillNanos = now;
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / permitsPerSecond * 1000);
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        private Bucket(double tokens) {
+            this.tokens = tokens;
+        }
+    }
+}
@@ -1,22 +1,32 @@
 package com.webapp.Tracker_pro.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * Service for JWT token operations including generation and validation.
+ * The signing key and parser are built once at startup. Recently verified tokens
+ * are cached (SHA-256 of the token -> claims, until the token expires) so repeated
+ * requests with the same bearer token skip signature verification.
  */
 @Service
 public class JwtService {
@@ -27,6 +37,21 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    private SecretKey signInKey;
+    private JwtParser parser;
+
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        signInKey = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parser().verifyWith(signInKey).build();
+    }
+
     /**
      * Extract username (email) from JWT token
      */
@@ -82,6 +107,24 @@ public class JwtService {
         return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
     }
 
+    /**
+     * Validate already-parsed claims against the loaded user
+     * Avoids re-parsing the token when the caller has the claims at hand
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject() != null
+                && claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Verify the token signature and return its claims
+     * Throws a JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     /**
      * Check if token is expired
      */
@@ -98,21 +141,59 @@ public class JwtService {
 
     /**
      * Extract all claims from token
+     * Served from the verified-token cache when the same token was verified before
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long now = System.currentTimeMillis();
+        String key = hash(token);
+
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.claims();
+            }
+            verifiedTokens.remove(key, cached);
+        }
+
+        // Throws on a bad signature, malformed token or expired token
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        cacheVerified(key, claims, now);
+        return claims;
+    }
+
+    private void cacheVerified(String key, Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        if (verifiedTokens.size() >= verifiedCacheSize) {
+            verifiedTokens.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (verifiedTokens.size() >= verifiedCacheSize) {
+                return;  // still full of live tokens; verify this one again next time
+            }
+        }
+        verifiedTokens.put(key, new VerifiedToken(claims, expiration.getTime()));
+    }
+
+    /**
+     * SHA-256 of the token so the cache does not hold bearer tokens themselves
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
      * Get signing key from secret
      */
-    private javax.crypto.SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private SecretKey getSignInKey() {
+        return signInKey;
+    }
+
+    private record VerifiedToken(Claims claims, long expiresAt) {
     }
 }
@@ -0,0 +1,295 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.NotificationFanoutJobResponse;
+import com.webapp.Tracker_pro.exception.ConcurrentUpdateException;
+import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.Notification;
+import com.webapp.Tracker_pro.model.NotificationFanoutJob;
+import com.webapp.Tracker_pro.model.NotificationFanoutStatus;
+import com.webapp.Tracker_pro.repository.NotificationFanoutJobRepository;
+import com.webapp.Tracker_pro.repository.NotificationRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background fan-out of notifications to every active student
+ *
+ * A job walks active student IDs in keyset pages. Each page is one transaction:
+ * the notifications are inserted as JDBC batches (IDs come from a pooled table
+ * generator, so Hibernate can batch them) and the job's progress checkpoint is
+ * advanced. Jobs run on a dedicated single thread after the creating transaction
+ * commits, so publishing a post never waits for the fan-out; unfinished jobs are
+ * resumed from their checkpoint on startup, until a job has been started
+ * max-attempts times, after which it is ABANDONED.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFanoutService {
+
+    public static final String NEW_INTERNSHIP = "NEW_INTERNSHIP";
+
+    private final NotificationFanoutJobRepository jobRepository;
+    private final NotificationRepository notificationRepository;
+    private final StudentRepository studentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final NotificationPushRegistry notificationPushRegistry;
+    private final StudentDashboardCache studentDashboardCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.notifications.fanout.page-size:2000}")
+    private int pageSize;
+
+    @Value("${app.notifications.fanout.jdbc-batch-size:500}")
+    private int jdbcBatchSize;
+
+    @Value("${app.notifications.fanout.max-attempts:3}")
+    private int maxAttempts;
+
+    private ExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-fanout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // ==================== Job Creation ====================
+
+    /**
+     * Queue a NEW_INTERNSHIP notification for every active student
+     * The job starts once the surrounding transaction commits; a post is only announced once.
+     *
+     * @param post Newly published career post
+     * @throws ConcurrentUpdateException if another transaction is announcing the same post
+     */
+    @Transactional
+    public void notifyNewInternship(CareerPost post) {
+        if (jobRepository.existsByCareerPostIdAndNotificationType(post.getId(), NEW_INTERNSHIP)) {
+            log.debug("Career post {} was already announced, skipping fan-out", post.getId());
+            return;
+        }
+
+        NotificationFanoutJob job = new NotificationFanoutJob();
+        job.setCareerPostId(post.getId());
+        job.setNotificationType(NEW_INTERNSHIP);
+        job.setTitle("New Internship Posted");
+        job.setMessage("A new internship has been posted: " + post.getTitle());
+        job.setStatus(NotificationFanoutStatus.QUEUED);
+        NotificationFanoutJob saved;
+        try {
+            // Flush now so a concurrent announcement of the same post hits the unique key here
+            saved = jobRepository.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConcurrentUpdateException("Career post " + post.getId() + " is already being announced");
+        }
+
+        log.info("Queued notification fan-out job {} for career post {}", saved.getId(), post.getId());
+        TransactionCallbacks.afterCommit(() -> submit(saved.getId()));
+    }
+
+    /**
+     * Resume jobs that were queued, running or failed when the application last stopped
+     * A job that has used up its attempts is marked ABANDONED instead of being run again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<NotificationFanoutJob> unfinished = jobRepository.findByStatusIn(
+                List.of(NotificationFanoutStatus.QUEUED, NotificationFanoutStatus.RUNNING, NotificationFanoutStatus.FAILED));
+        int resumed = 0;
+        for (NotificationFanoutJob job : unfinished) {
+            if (job.getAttempts() >= maxAttempts) {
+                log.error("Abandoning notification fan-out job {} after {} attempt(s)", job.getId(), job.getAttempts());
+                transactionTemplate.executeWithoutResult(status -> finish(job.getId(), NotificationFanoutStatus.ABANDONED,
+                        job.getErrorMessage() != null ? job.getErrorMessage() : "Interrupted on every attempt"));
+            } else {
+                submit(job.getId());
+                resumed++;
+            }
+        }
+        if (resumed > 0) {
+            log.info("Resuming {} notification fan-out job(s)", resumed);
+        }
+    }
+
+    // ==================== Progress ====================
+
+    /**
+     * Get the progress of a fan-out job
+     */
+    public NotificationFanoutJobResponse getJobStatus(Long jobId) {
+        return toResponse(jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Notification job not found with ID: " + jobId)));
+    }
+
+    /**
+     * Get the progress of the latest fan-out job for a career post
+     */
+    public NotificationFanoutJobResponse getLatestJobForPost(Long careerPostId) {
+        return toResponse(jobRepository.findFirstByCareerPostIdOrderByIdDesc(careerPostId)
+                .orElseThrow(() -> new ResourceNotFoundException("No notification job for career post ID: " + careerPostId)));
+    }
+
+    // ==================== Worker ====================
+
+    private void submit(Long jobId) {
+        executor.submit(() -> run(jobId));
+    }
+
+    /**
+     * Run a job to completion, one page per transaction
+     */
+    private void run(Long jobId) {
+        long started = System.currentTimeMillis();
+        try {
+            NotificationFanoutJob job = transactionTemplate.execute(status -> start(jobId));
+            if (job == null) {
+                return;
+            }
+
+            Long afterId = job.getLastStudentId() != null ? job.getLastStudentId() : 0L;
+            while (afterId != null) {
+                Long from = afterId;
+                afterId = transactionTemplate.execute(status -> insertPage(job, from));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> finish(jobId, NotificationFanoutStatus.COMPLETED, null));
+            log.info("Notification fan-out job {} completed in {} ms", jobId, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Notification fan-out job {} failed", jobId, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionTemplate.executeWithoutResult(status -> finish(jobId, NotificationFanoutStatus.FAILED,
+                    message.length() > 1000 ? message.substring(0, 1000) : message));
+        }
+    }
+
+    /**
+     * Mark a job as running and snapshot the recipient count; null if there is nothing to do
+     */
+    private NotificationFanoutJob start(Long jobId) {
+        NotificationFanoutJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == NotificationFanoutStatus.COMPLETED
+                || job.getStatus() == NotificationFanoutStatus.ABANDONED) {
+            return null;
+        }
+        job.setAttempts(job.getAttempts() + 1);
+        job.setStatus(NotificationFanoutStatus.RUNNING);
+        job.setErrorMessage(null);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+            job.setTotalRecipients((int) studentRepository.countByIsActive(true));
+        }
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Insert notifications for one page of active students and advance the checkpoint
+     *
+     * @return Last student ID of the page, or null when there are no more students
+     */
+    private Long insertPage(NotificationFanoutJob job, Long afterId) {
+        List<Long> studentIds = studentRepository.findActiveIdsAfter(afterId, PageRequest.of(0, pageSize));
+        if (studentIds.isEmpty()) {
+            return null;
+        }
+
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+        List<Notification> notifications = new ArrayList<>(studentIds.size());
+        for (Long studentId : studentIds) {
+            Notification notification = new Notification();
+            notification.setUserId(studentId);
+            notification.setUserType("STUDENT");
+            notification.setTitle(job.getTitle());
+            notification.setMessage(job.getMessage());
+            notification.setNotificationType(job.getNotificationType());
+            notification.setRelatedEntityId(job.getCareerPostId());
+            notification.setIsRead(false);
+            notifications.add(notification);
+        }
+        notificationRepository.saveAll(notifications);
+        entityManager.flush();
+        entityManager.clear();
+        notificationPushRegistry.publishAll(notifications);
+        studentDashboardCache.evictAll(studentIds);  // unread counts changed
+
+        Long lastId = studentIds.get(studentIds.size() - 1);
+        jobRepository.recordProgress(job.getId(), studentIds.size(), lastId);
+        return lastId;
+    }
+
+    private void finish(Long jobId, NotificationFanoutStatus status, String errorMessage) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setErrorMessage(errorMessage);
+            if (status == NotificationFanoutStatus.COMPLETED) {
+                job.setCompletedAt(LocalDateTime.now());
+            }
+            jobRepository.save(job);
+        });
+    }
+
+    // ==================== Helper Methods ====================
+
+    private NotificationFanoutJobResponse toResponse(NotificationFanoutJob job) {
+        Integer total = job.getTotalRecipients();
+        int processed = job.getProcessedRecipients();
+        int percent;
+        if (job.getStatus() == NotificationFanoutStatus.COMPLETED) {
+            percent = 100;
+        } else if (total == null || total == 0) {
+            percent = 0;
+        } else {
+            percent = (int) Math.min(99, processed * 100L / total);
+        }
+
+        return NotificationFanoutJobResponse.builder()
+                .jobId(job.getId())
+                .careerPostId(job.getCareerPostId())
+                .status(job.getStatus().name())
+                .total(total)
+                .processed(processed)
+                .percentComplete(percent)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
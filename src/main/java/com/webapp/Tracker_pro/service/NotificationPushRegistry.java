@@ -0,0 +1,369 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.Notification;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory registry of Server-Sent Events connections, keyed by student ID
+ *
+ * Write paths publish notifications here once their transaction commits and the
+ * registry pushes them to every open connection of that student. Event IDs carry the
+ * notification's creation time and ID. Notification IDs are allocated before commit, so
+ * they are not commit-ordered; a reconnecting client's Last-Event-ID is therefore turned
+ * into a time from which notifications are replayed with an overlap window, and the
+ * client drops the duplicates by notification ID. Idle connections get a heartbeat
+ * comment so proxies keep them open; the number of connections is capped in total and
+ * per student, and subscribers beyond a cap are rejected.
+ *
+ * Publishers never write to a socket. Events are built once, queued per connection
+ * and written in order by a small dedicated sender pool, so a stalled client cannot
+ * hold up the HR request, fan-out or scheduler thread that published. A connection
+ * whose queue overflows, or whose current write has been blocked longer than the write
+ * timeout, is dropped; its client reconnects and catches up through the replay.
+ */
+@Component
+@Slf4j
+public class NotificationPushRegistry {
+
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String APPLICATION_STATUS_EVENT = "application-status";
+
+    private final ConcurrentHashMap<Long, List<Connection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final int maxConnections;
+    private final int maxConnectionsPerStudent;
+    private final long timeoutMs;
+    private final long reconnectDelayMs;
+    private final int maxQueuedEvents;
+    private final long writeTimeoutMs;
+    private final ExecutorService sender;
+
+    public NotificationPushRegistry(@Value("${app.notifications.stream.max-connections:5000}") int maxConnections,
+                                    @Value("${app.notifications.stream.max-connections-per-student:3}") int maxConnectionsPerStudent,
+                                    @Value("${app.notifications.stream.timeout-ms:1800000}") long timeoutMs,
+                                    @Value("${app.notifications.stream.reconnect-delay-ms:5000}") long reconnectDelayMs,
+                                    @Value("${app.notifications.stream.sender-threads:4}") int senderThreads,
+                                    @Value("${app.notifications.stream.max-queued-events:200}") int maxQueuedEvents,
+                                    @Value("${app.notifications.stream.write-timeout-ms:10000}") long writeTimeoutMs) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerStudent = maxConnectionsPerStudent;
+        this.timeoutMs = timeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.writeTimeoutMs = writeTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-push-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+    }
+
+    // ==================== Subscriptions ====================
+
+    /**
+     * Open a stream for a student, replaying notifications the client missed
+     *
+     * @param studentId Student ID
+     * @param missed Notifications created after the client's Last-Event-ID, oldest first
+     * @return Emitter to return from the controller
+     * @throws IllegalStateException when the connection cap is reached
+     */
+    public SseEmitter subscribe(Long studentId, List<Notification> missed) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new IllegalStateException("Too many open notification streams");
+        }
+
+        // Check and add under the map's per-key lock so concurrent subscribes cannot exceed the cap.
+        // Existing streams are never evicted: closing one would make its tab reconnect and evict another.
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(emitter);
+
+        // Queued before the connection is visible, so live events can only follow the replay
+        connection.prefill(SseEmitter.event().reconnectTime(reconnectDelayMs).comment("connected").build());
+        for (Notification notification : missed) {
+            connection.prefill(notificationEvent(notification).build());
+        }
+
+        try {
+            emitters.compute(studentId, (id, list) -> {
+                List<Connection> target = list != null ? list : new CopyOnWriteArrayList<>();
+                if (target.size() >= maxConnectionsPerStudent) {
+                    throw new IllegalStateException("Too many open notification streams for this account");
+                }
+                target.add(connection);
+                return target;
+            });
+        } catch (IllegalStateException e) {
+            connections.decrementAndGet();
+            throw e;
+        }
+        emitter.onCompletion(() -> remove(studentId, connection));
+        emitter.onTimeout(() -> remove(studentId, connection));
+        emitter.onError(e -> remove(studentId, connection));
+
+        schedule(studentId, connection);
+        return emitter;
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Creation time encoded in a Last-Event-ID sent by a reconnecting client
+     *
+     * @param lastEventId Event ID as produced by this registry ("epochMillis-notificationId")
+     * @return Creation time of that notification, or null if the ID is missing or not recognised
+     */
+    public static LocalDateTime replayFrom(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        int separator = lastEventId.indexOf('-');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            long epochMillis = Long.parseLong(lastEventId.substring(0, separator));
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Event ID for a notification: creation time (epoch millis, UTC-encoded) and notification ID
+     */
+    static String eventId(Notification notification) {
+        long epochMillis = notification.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return epochMillis + "-" + notification.getId();
+    }
+
+    // ==================== Publishing ====================
+
+    /**
+     * Push a new notification to its student once the current transaction commits
+     */
+    public void publish(Notification notification) {
+        publishAll(List.of(notification));
+    }
+
+    /**
+     * Push several new notifications once the current transaction commits
+     * Notifications for students without an open stream cost one map lookup
+     */
+    public void publishAll(Collection<Notification> notifications) {
+        if (notifications.isEmpty() || emitters.isEmpty()) {
+            return;
+        }
+        List<Notification> snapshot = List.copyOf(notifications);
+        TransactionCallbacks.afterCommit(() -> snapshot.forEach(notification -> {
+            if ("STUDENT".equals(notification.getUserType())) {
+                send(notification.getUserId(), notificationEvent(notification));
+            }
+        }));
+    }
+
+    /**
+     * Tell a student's open streams that an application status changed (not replayed on reconnect)
+     */
+    public void publishStatusChange(Long studentId, Long applicationId, String status) {
+        if (!emitters.containsKey(studentId)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> send(studentId, SseEmitter.event()
+                .name(APPLICATION_STATUS_EVENT)
+                .data(Map.of("applicationId", applicationId, "status", status), MediaType.APPLICATION_JSON)));
+    }
+
+    /**
+     * Queue a comment on every open stream so idle connections are not closed by proxies
+     * and dead ones are detected; streams stuck in a write past the write timeout are dropped
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        emitters.forEach((studentId, own) -> own.forEach(connection -> {
+            long writeStartedAt = connection.writeStartedAt;
+            if (writeStartedAt != 0 && now - writeStartedAt > writeTimeoutMs) {
+                drop(studentId, connection, "write blocked for " + (now - writeStartedAt) + " ms");
+            } else {
+                enqueue(studentId, connection, SseEmitter.event().comment("heartbeat").build());
+            }
+        }));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void send(Long studentId, SseEmitter.SseEventBuilder builder) {
+        List<Connection> own = emitters.get(studentId);
+        if (own == null) {
+            return;
+        }
+        // Builders are not thread-safe and append a terminator on each build, so build once
+        Set<DataWithMediaType> event = builder.build();
+        for (Connection connection : own) {
+            enqueue(studentId, connection, event);
+        }
+    }
+
+    /**
+     * Queue an event for one connection; a client that lets its queue fill up is dropped
+     */
+    private void enqueue(Long studentId, Connection connection, Set<DataWithMediaType> event) {
+        if (connection.closed) {
+            return;
+        }
+        if (connection.queued.incrementAndGet() > maxQueuedEvents) {
+            drop(studentId, connection, "more than " + maxQueuedEvents + " events queued");
+            return;
+        }
+        connection.queue.add(event);
+        schedule(studentId, connection);
+    }
+
+    /**
+     * Start draining a connection's queue on the sender pool unless a drain is already running
+     */
+    private void schedule(Long studentId, Connection connection) {
+        if (!connection.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(studentId, connection));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            connection.draining.set(false);
+        }
+    }
+
+    /**
+     * Write queued events in order; only one drain per connection runs at a time
+     */
+    private void drain(Long studentId, Connection connection) {
+        try {
+            Set<DataWithMediaType> event;
+            while (!connection.closed && (event = connection.queue.poll()) != null) {
+                connection.queued.decrementAndGet();
+                connection.writeStartedAt = System.currentTimeMillis();
+                try {
+                    connection.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    drop(studentId, connection, e.getMessage());
+                } finally {
+                    connection.writeStartedAt = 0;
+                }
+            }
+        } finally {
+            connection.draining.set(false);
+        }
+        // An event queued after the last poll but before the flag was cleared
+        if (!connection.closed && !connection.queue.isEmpty()) {
+            schedule(studentId, connection);
+        }
+    }
+
+    /**
+     * Stop writing to a connection and unregister it
+     * The emitter is completed on the sender pool, and only when no write is in progress:
+     * completing waits for the emitter's write lock, which a stalled write holds.
+     */
+    private void drop(Long studentId, Connection connection, String reason) {
+        if (connection.closed) {
+            return;
+        }
+        connection.closed = true;
+        connection.queue.clear();
+        remove(studentId, connection);
+        log.debug("Dropping notification stream of student {}: {}", studentId, reason);
+        if (connection.writeStartedAt == 0) {
+            try {
+                sender.execute(() -> {
+                    try {
+                        connection.emitter.complete();
+                    } catch (IllegalStateException e) {
+                        // Already completed
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+            }
+        }
+    }
+
+    private void remove(Long studentId, Connection connection) {
+        connection.closed = true;
+        emitters.computeIfPresent(studentId, (id, own) -> {
+            if (own.remove(connection)) {
+                connections.decrementAndGet();
+            }
+            return own.isEmpty() ? null : own;
+        });
+    }
+
+    private SseEmitter.SseEventBuilder notificationEvent(Notification notification) {
+        return SseEmitter.event()
+                .id(eventId(notification))
+                .name(NOTIFICATION_EVENT)
+                .data(notification, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * An open stream with its pending events
+     */
+    private static final class Connection {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long writeStartedAt;  // 0 when no write is in progress
+        private volatile boolean closed;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queue an event before the connection is registered, bypassing the queue cap
+         */
+        private void prefill(Set<DataWithMediaType> event) {
+            queued.incrementAndGet();
+            queue.add(event);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.repository.NotificationArchiveRepository;
+import com.webapp.Tracker_pro.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled retention for the notifications table
+ *
+ * Read notifications older than the retention age are moved to notifications_archive
+ * in small batches: each batch is its own short transaction (INSERT ... SELECT by ID,
+ * then DELETE by ID), with a pause between batches, so row locks are held briefly and
+ * student reads and inserts keep flowing. Unread notifications are never archived.
+ * Archived rows can optionally be purged after a second retention period.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.notifications.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notifications.retention.read-age-days:90}")
+    private int readAgeDays;
+
+    @Value("${app.notifications.retention.archive-age-days:0}")
+    private int archiveAgeDays;
+
+    @Value("${app.notifications.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.notifications.retention.max-batches-per-run:500}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.notifications.retention.pause-between-batches-ms:50}")
+    private long pauseMs;
+
+    private TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // Metrics
+    private final AtomicLong totalArchived = new AtomicLong();
+    private final AtomicLong totalPurged = new AtomicLong();
+    private final AtomicLong runs = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunArchived;
+    private volatile long lastRunPurged;
+    private volatile long lastRunDurationMs;
+    private volatile String lastError;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Archive old read notifications (and purge expired archive rows)
+     * A run stops after max-batches-per-run; the remainder is picked up next time.
+     *
+     * @return Number of notifications archived
+     */
+    @Scheduled(initialDelayString = "${app.notifications.retention.initial-delay-ms:300000}",
+               fixedDelayString = "${app.notifications.retention.interval-ms:3600000}")
+    public long runRetention() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return 0;
+        }
+        long started = System.currentTimeMillis();
+        long archived = 0;
+        long purged = 0;
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(readAgeDays);
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                archived += moved;
+                pause();
+            }
+
+            if (archiveAgeDays > 0) {
+                LocalDateTime archiveCutoff = LocalDateTime.now().minusDays(archiveAgeDays);
+                for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                    Integer deleted = transactionTemplate.execute(status -> purgeBatch(archiveCutoff));
+                    if (deleted == null || deleted == 0) {
+                        break;
+                    }
+                    purged += deleted;
+                    pause();
+                }
+            }
+            lastError = null;
+        } catch (Exception e) {
+            log.error("Notification retention run failed after archiving {} rows", archived, e);
+            lastError = e.getMessage();
+        } finally {
+            totalArchived.addAndGet(archived);
+            totalPurged.addAndGet(purged);
+            runs.incrementAndGet();
+            lastRunAt = LocalDateTime.now();
+            lastRunArchived = archived;
+            lastRunPurged = purged;
+            lastRunDurationMs = System.currentTimeMillis() - started;
+            running.set(false);
+        }
+
+        if (archived > 0 || purged > 0) {
+            log.info("Notification retention archived {} and purged {} rows in {} ms", archived, purged, lastRunDurationMs);
+        }
+        return archived;
+    }
+
+    /**
+     * Retention metrics: configuration, last run, running totals and current table sizes
+     */
+    public Map<String, Object> getMetrics() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(readAgeDays);
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("readAgeDays", readAgeDays);
+        metrics.put("archiveAgeDays", archiveAgeDays);
+        metrics.put("running", running.get());
+        metrics.put("runs", runs.get());
+        metrics.put("lastRunAt", lastRunAt);
+        metrics.put("lastRunArchived", lastRunArchived);
+        metrics.put("lastRunPurged", lastRunPurged);
+        metrics.put("lastRunDurationMs", lastRunDurationMs);
+        metrics.put("lastError", lastError);
+        metrics.put("totalArchived", totalArchived.get());
+        metrics.put("totalPurged", totalPurged.get());
+        metrics.put("activeNotifications", notificationRepository.count());
+        metrics.put("pendingArchive", notificationRepository.countByIsReadAndCreatedAtBefore(true, cutoff));
+        metrics.put("archivedNotifications", notificationArchiveRepository.count());
+        return metrics;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = notificationRepository.findReadIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        notificationArchiveRepository.archive(ids, LocalDateTime.now());
+        return notificationRepository.deleteByIdIn(ids);
+    }
+
+    private int purgeBatch(LocalDateTime cutoff) {
+        List<Long> ids = notificationArchiveRepository.findIdsArchivedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return notificationArchiveRepository.deleteByIdIn(ids);
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Notification retention interrupted", e);
+        }
+    }
+}
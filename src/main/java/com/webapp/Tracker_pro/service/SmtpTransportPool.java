@@ -0,0 +1,236 @@
+package com.webapp.Tracker_pro.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of authenticated SMTP connections
+ *
+ * Keeps up to pool-size connected Transports so consecutive sends skip the
+ * connect/STARTTLS/AUTH handshake. A group of messages is sent over a single
+ * connection; connections are recycled after max-messages-per-connection
+ * messages, after idling too long, or on any error.
+ *
+ * pool-size also caps concurrency: a group holds one permit while it sends, so no
+ * more than pool-size connections are ever open, however many threads send. A group
+ * that waits longer than acquire-timeout-ms for a permit fails without connecting.
+ * If opening a connection fails, the rest of the group fails with the same error
+ * instead of repeating the handshake for every message.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idle;
+    private final Semaphore permits;
+
+    private final int poolSize;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMs;
+    private final long acquireTimeoutMs;
+
+    // Metrics
+    private final LongAdder poolHits = new LongAdder();
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder messagesSent = new LongAdder();
+    private final LongAdder messagesFailed = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder acquireTimeouts = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             @Value("${app.mail.transport.pool-size:4}") int poolSize,
+                             @Value("${app.mail.transport.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                             @Value("${app.mail.transport.max-idle-ms:30000}") long maxIdleMs,
+                             @Value("${app.mail.transport.acquire-timeout-ms:60000}") long acquireTimeoutMs) {
+        this.mailSender = mailSender;
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+        this.permits = new Semaphore(poolSize, true);
+        this.poolSize = poolSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMs = maxIdleMs;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    /**
+     * Send messages over pooled connections
+     *
+     * @param messages Messages to send, in order
+     * @return One entry per message: null when sent, otherwise the failure
+     */
+    public List<Exception> send(List<MimeMessage> messages) {
+        List<Exception> results = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return results;
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                acquireTimeouts.increment();
+                return failAll(results, messages.size(),
+                        new MessagingException("No SMTP connection available within " + acquireTimeoutMs + " ms"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(results, messages.size(), new MessagingException("Interrupted waiting for an SMTP connection", e));
+        }
+
+        try {
+            return sendWithPermit(messages, results);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private List<Exception> sendWithPermit(List<MimeMessage> messages, List<Exception> results) {
+        PooledTransport transport = null;
+
+        for (MimeMessage message : messages) {
+            if (transport == null) {
+                try {
+                    transport = borrow();
+                } catch (MessagingException e) {
+                    // The server is unreachable or refused us; every remaining message would fail the same way
+                    connectFailures.increment();
+                    log.warn("SMTP connect failed, failing {} remaining message(s): {}",
+                            messages.size() - results.size(), e.getMessage());
+                    return failAll(results, messages.size(), e);
+                }
+            }
+
+            long start = System.nanoTime();
+            try {
+                message.saveChanges();
+                transport.transport.sendMessage(message, message.getAllRecipients());
+                transport.messageCount++;
+                messagesSent.increment();
+                results.add(null);
+
+                if (transport.messageCount >= maxMessagesPerConnection) {
+                    close(transport);
+                    transport = null;
+                }
+            } catch (Exception e) {
+                messagesFailed.increment();
+                results.add(e);
+                // The connection may be in an unknown state; never reuse it
+                close(transport);
+                transport = null;
+            } finally {
+                sendNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        if (transport != null) {
+            release(transport);
+        }
+        return results;
+    }
+
+    /**
+     * Snapshot of pool metrics
+     */
+    public Map<String, Object> getMetrics() {
+        long sent = messagesSent.sum();
+        long failed = messagesFailed.sum();
+        long attempts = sent + failed;
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("idleConnections", idle.size());
+        metrics.put("activeSenders", poolSize - permits.availablePermits());
+        metrics.put("poolHits", poolHits.sum());
+        metrics.put("handshakes", handshakes.sum());
+        metrics.put("recycledConnections", recycled.sum());
+        metrics.put("acquireTimeouts", acquireTimeouts.sum());
+        metrics.put("connectFailures", connectFailures.sum());
+        metrics.put("messagesSent", sent);
+        metrics.put("messagesFailed", failed);
+        metrics.put("avgSendLatencyMs", attempts == 0 ? 0.0 : sendNanos.sum() / 1_000_000.0 / attempts);
+        return metrics;
+    }
+
+    @PreDestroy
+    void closeAll() {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<Exception> failAll(List<Exception> results, int total, Exception failure) {
+        messagesFailed.add(total - results.size());
+        while (results.size() < total) {
+            results.add(failure);
+        }
+        return results;
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            boolean stale = System.currentTimeMillis() - transport.lastUsedAt > maxIdleMs;
+            if (!stale && transport.transport.isConnected()) {
+                poolHits.increment();
+                return transport;
+            }
+            close(transport);
+        }
+        return connect();
+    }
+
+    private void release(PooledTransport transport) {
+        transport.lastUsedAt = System.currentTimeMillis();
+        if (!idle.offer(transport)) {
+            close(transport);
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Session session = mailSender.getSession();
+        Transport transport = session.getTransport(mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp");
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        handshakes.increment();
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport transport) {
+        recycled.increment();
+        try {
+            transport.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private int messageCount;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
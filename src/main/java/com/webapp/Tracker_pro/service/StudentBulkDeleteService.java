@@ -0,0 +1,116 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.BulkDeleteStudentsResponse;
+import com.webapp.Tracker_pro.model.UserIdentity;
+import com.webapp.Tracker_pro.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Set-based engine for deleting students together with their dependent rows
+ *
+ * IDs are processed in chunks. Each chunk costs a fixed number of statements
+ * regardless of how many rows it touches: one SELECT for the students, one
+ * grouped count of their applications, one aggregate UPDATE of the affected
+ * posts' applicationsCount, then DELETE ... WHERE student_id IN (:chunk) on
+ * notifications, applications, student_documents, user_identities and finally
+ * students, children before parents.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StudentBulkDeleteService {
+
+    private final StudentRepository studentRepository;
+    private final ApplicationRepository applicationRepository;
+    private final CareerPostRepository careerPostRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final StudentDocumentRepository studentDocumentRepository;
+    private final UserIdentityRepository userIdentityRepository;
+    private final ApplicationStatsService applicationStatsService;
+    private final UserPrincipalCache principalCache;
+    private final StudentDashboardCache studentDashboardCache;
+
+    @Value("${app.student.bulk-delete.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Delete many students and everything that belongs to them
+     *
+     * @param studentIds Student IDs, duplicates are ignored
+     * @return Outcome with the deleted and not-found IDs and dependent row counts
+     */
+    @Transactional
+    public BulkDeleteStudentsResponse deleteStudents(List<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+
+        List<Long> deletedIds = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        int applications = 0;
+        int notifications = 0;
+        int documents = 0;
+        int chunks = 0;
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            chunks++;
+
+            // [id, email]
+            Map<Long, String> emails = new HashMap<>();
+            for (Object[] row : studentRepository.findEmailRowsByIdIn(chunk)) {
+                emails.put((Long) row[0], (String) row[1]);
+            }
+            chunk.stream().filter(id -> !emails.containsKey(id)).forEach(notFoundIds::add);
+            if (emails.isEmpty()) {
+                continue;
+            }
+            Set<Long> found = emails.keySet();
+
+            // [careerPostId, status, count], read before the applications disappear
+            Map<Long, Map<String, Long>> deletedApplications = new HashMap<>();
+            for (Object[] row : applicationRepository.countGroupedByCareerPostAndStatusForStudents(found)) {
+                deletedApplications.computeIfAbsent((Long) row[0], k -> new HashMap<>())
+                        .merge((String) row[1], (Long) row[2], Long::sum);
+            }
+            if (!deletedApplications.isEmpty()) {
+                careerPostRepository.subtractApplicationsOfStudents(found);
+            }
+
+            notifications += notificationRepository.deleteByUserTypeAndUserIdIn("STUDENT", found);
+            notificationArchiveRepository.deleteByUserTypeAndUserIdIn("STUDENT", found);
+            int chunkApplications = applicationRepository.deleteByStudentIdIn(found);
+            applications += chunkApplications;
+            documents += studentDocumentRepository.deleteByStudentIdIn(found);
+            userIdentityRepository.deleteByOwnerTableAndOwnerIdIn(UserIdentity.OwnerTable.STUDENTS, found);
+            studentRepository.deleteByIdIn(found);
+
+            // Batched side effects for this chunk
+            applicationStatsService.recordBulkDeleted(deletedApplications);
+            studentDashboardCache.evictAll(new ArrayList<>(found));
+            emails.values().forEach(principalCache::evict);
+            chunk.stream().filter(found::contains).forEach(deletedIds::add);
+
+            log.debug("Bulk delete chunk {}: {} students, {} applications", chunks, found.size(), chunkApplications);
+        }
+
+        log.info("Bulk delete finished: {} of {} students deleted in {} chunk(s), {} applications, {} notifications, {} documents removed",
+                deletedIds.size(), ids.size(), chunks, applications, notifications, documents);
+
+        return BulkDeleteStudentsResponse.builder()
+                .requested(ids.size())
+                .deleted(deletedIds.size())
+                .chunks(chunks)
+                .deletedIds(deletedIds)
+                .notFoundIds(notFoundIds)
+                .applicationsDeleted(applications)
+                .notificationsDeleted(notifications)
+                .documentsDeleted(documents)
+                .build();
+    }
+}
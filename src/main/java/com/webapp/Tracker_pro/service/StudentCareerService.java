@@ -4,12 +4,21 @@ import com.webapp.Tracker_pro.dto.*;
 import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
 import com.webapp.Tracker_pro.model.*;
 import com.webapp.Tracker_pro.repository.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -28,9 +37,37 @@ public class StudentCareerService {
     private final CareerPostRepository careerPostRepository;
     private final NotificationRepository notificationRepository;
     private final StudentDocumentRepository studentDocumentRepository;
+    private final ApplicationStatsService applicationStatsService;
+    private final UserPrincipalCache principalCache;
+    private final CareerPostCatalog careerPostCatalog;
+    private final CareerPostSearchIndex careerPostSearchIndex;
+    private final UserIdentityService userIdentityService;
+    private final StudentDashboardCache studentDashboardCache;
+    private final NotificationPushRegistry notificationPushRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.notifications.stream.replay-limit:100}")
+    private int streamReplayLimit;
+
+    @Value("${app.notifications.stream.replay-overlap-ms:60000}")
+    private long streamReplayOverlapMs;
+
+    @Value("${app.notifications.page-size:20}")
+    private int notificationPageSize;
+
+    @Value("${app.notifications.max-page-size:100}")
+    private int notificationMaxPageSize;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
     /**
      * Get student profile by email
      */
@@ -68,6 +105,11 @@ public class StudentCareerService {
         student.setProfileCompletionPercentage(calculateProfileCompletion(student));
 
         studentRepository.save(student);
+        if (request.getMobileNo() != null) {
+            userIdentityService.save(UserType.STUDENT, student.getId(), student.getEmail(), student.getMobileNo());
+        }
+        principalCache.evict(student.getEmail());
+        studentDashboardCache.evict(student.getId());
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -79,18 +121,14 @@ public class StudentCareerService {
     /**
      * Get all published internships for students
      */
-    public Map<String, Object> getAvailableInternships(String workMode, String search) {
-        List<CareerPost> internships;
+    public Map<String, Object> getAvailableInternships(CareerPostCatalog.Snapshot catalog, String workMode, String search) {
+        List<CatalogPost> internships;
 
         if (search != null && !search.isEmpty()) {
-            internships = careerPostRepository.searchByTitleOrCode(search)
-                .stream()
-                .filter(post -> "Posted".equals(post.getStatus()))
-                .collect(Collectors.toList());
-        } else if (workMode != null && !workMode.isEmpty() && !"all".equalsIgnoreCase(workMode)) {
-            internships = careerPostRepository.findByStatusAndWorkModeOrderByCreatedAtDesc("Posted", workMode);
+            // Ranked IDs with status and work mode filtered inside the search index
+            internships = catalog.findRanked(careerPostSearchIndex.search(search, "Posted", workMode));
         } else {
-            internships = careerPostRepository.findByStatusOrderByCreatedAtDesc("Posted");
+            internships = catalog.find(workMode);
         }
 
         Map<String, Object> response = new HashMap<>();
@@ -104,8 +142,16 @@ public class StudentCareerService {
      * Get internship details by ID
      */
     public Map<String, Object> getInternshipDetails(Long id) {
-        CareerPost internship = careerPostRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Internship not found"));
+        // Posted internships come from the catalog snapshot plus the live applications count;
+        // anything else falls back to the table
+        CatalogPost internship = careerPostCatalog.current().byId().get(id);
+        if (internship != null) {
+            internship = internship.withApplicationsCount(careerPostRepository.findApplicationsCountById(id).orElse(null));
+        } else {
+            CareerPost post = careerPostRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Internship not found"));
+            internship = CatalogPost.of(post, post.getApplicationsCount());
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -169,10 +215,11 @@ public class StudentCareerService {
         application.setStatus("Pending");
 
         applicationRepository.save(application);
+        applicationStatsService.recordCreated(application.getCareerPostId(), application.getStatus());
+        studentDashboardCache.evict(student.getId());
 
-        // Update applications count in career post
-        careerPost.setApplicationsCount(careerPost.getApplicationsCount() + 1);
-        careerPostRepository.save(careerPost);
+        // Atomic increment in the database; concurrent applies cannot lose updates
+        careerPostRepository.adjustApplicationsCount(careerPost.getId(), 1);
 
         // Create notification
         createNotification(student.getId(), "STUDENT", "Application Submitted",
@@ -193,28 +240,11 @@ public class StudentCareerService {
         Student student = studentRepository.findByEmail(email)
             .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        List<Application> applications;
-        if (status != null && !status.isEmpty()) {
-            applications = applicationRepository.findByStudentIdAndStatusOrderByAppliedDateDesc(student.getId(), status);
-        } else {
-            applications = applicationRepository.findByStudentIdOrderByAppliedDateDesc(student.getId());
-        }
-
-        // Build response with internship details
-        // Optimize: Batch fetch all career posts to avoid N+1 query problem
-        Set<Long> careerPostIds = applications.stream()
-            .map(Application::getCareerPostId)
-            .collect(Collectors.toSet());
-        
-        Map<Long, CareerPost> careerPostMap = careerPostRepository.findAllById(careerPostIds)
+        // One query: application and internship columns joined in SQL, no large text columns
+        List<ApplicationResponse> applicationResponses = applicationRepository
+            .findListRowsByStudentId(student.getId(), status != null && !status.isEmpty() ? status : null)
             .stream()
-            .collect(Collectors.toMap(CareerPost::getId, cp -> cp));
-        
-        List<ApplicationResponse> applicationResponses = applications.stream()
-            .map(app -> {
-                CareerPost careerPost = careerPostMap.get(app.getCareerPostId());
-                return buildApplicationResponse(app, careerPost, student);
-            })
+            .map(this::buildApplicationResponse)
             .collect(Collectors.toList());
 
         Map<String, Object> response = new HashMap<>();
@@ -271,14 +301,13 @@ public class StudentCareerService {
             return response;
         }
 
-        // Update applications count in career post
-        CareerPost careerPost = careerPostRepository.findById(application.getCareerPostId()).orElse(null);
-        if (careerPost != null && careerPost.getApplicationsCount() > 0) {
-            careerPost.setApplicationsCount(careerPost.getApplicationsCount() - 1);
-            careerPostRepository.save(careerPost);
-        }
-
         applicationRepository.delete(application);
+        applicationStatsService.recordDeleted(application.getCareerPostId(), application.getStatus());
+        studentDashboardCache.evict(student.getId());
+
+        // Atomic decrement in the database (no-op if the post is gone or already at zero).
+        // Runs last: it flushes and clears the persistence context.
+        careerPostRepository.adjustApplicationsCount(application.getCareerPostId(), -1);
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -290,59 +319,106 @@ public class StudentCareerService {
      * Get dashboard statistics
      */
     public Map<String, Object> getDashboardStats(String email) {
+        StudentDashboardStatsResponse stats = studentDashboardCache.get(email, () -> loadDashboardStats(email));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", stats);
+        return response;
+    }
+
+    /**
+     * Compute dashboard statistics; all per-status counts come from one grouped query
+     */
+    private StudentDashboardCache.Loaded loadDashboardStats(String email) {
         Student student = studentRepository.findByEmail(email)
             .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        long totalApplications = applicationRepository.countByStudentId(student.getId());
-        long pendingApplications = applicationRepository.countByStudentIdAndStatus(student.getId(), "Pending");
-        long underReviewApplications = applicationRepository.countByStudentIdAndStatus(student.getId(), "Under Review");
-        long shortlistedApplications = applicationRepository.countByStudentIdAndStatus(student.getId(), "Shortlisted");
-        long acceptedApplications = applicationRepository.countByStudentIdAndStatus(student.getId(), "Accepted");
-        long rejectedApplications = applicationRepository.countByStudentIdAndStatus(student.getId(), "Rejected");
-        long availableInternships = careerPostRepository.countByStatus("Posted");
+        Map<String, Long> countsByStatus = new HashMap<>();
+        for (Object[] row : applicationRepository.countByStatusForStudent(student.getId())) {
+            countsByStatus.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        long totalApplications = countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long availableInternships = careerPostCatalog.current().all().size();
         long unreadNotifications = notificationRepository.countByUserIdAndUserTypeAndIsRead(student.getId(), "STUDENT", false);
 
         StudentDashboardStatsResponse stats = StudentDashboardStatsResponse.builder()
             .totalApplications(totalApplications)
-            .pendingApplications(pendingApplications)
-            .underReviewApplications(underReviewApplications)
-            .shortlistedApplications(shortlistedApplications)
-            .acceptedApplications(acceptedApplications)
-            .rejectedApplications(rejectedApplications)
+            .pendingApplications(countsByStatus.getOrDefault("Pending", 0L))
+            .underReviewApplications(countsByStatus.getOrDefault("Under Review", 0L))
+            .shortlistedApplications(countsByStatus.getOrDefault("Shortlisted", 0L))
+            .acceptedApplications(countsByStatus.getOrDefault("Accepted", 0L))
+            .rejectedApplications(countsByStatus.getOrDefault("Rejected", 0L))
             .profileCompletionPercentage(student.getProfileCompletionPercentage())
             .availableInternships(availableInternships)
             .unreadNotifications(unreadNotifications)
             .build();
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", stats);
-        return response;
+        return new StudentDashboardCache.Loaded(student.getId(), stats);
     }
 
     /**
-     * Get notifications for student
+     * Get one page of notifications for student, newest first
+     *
+     * @param email Student email
+     * @param unreadOnly Only unread notifications
+     * @param page Zero-based page number
+     * @param size Page size (defaults to app.notifications.page-size, capped at max-page-size)
      */
-    public Map<String, Object> getNotifications(String email, Boolean unreadOnly) {
+    public Map<String, Object> getNotifications(String email, Boolean unreadOnly, Integer page, Integer size) {
         Student student = studentRepository.findByEmail(email)
             .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        List<Notification> notifications;
+        int pageNumber = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? notificationPageSize : Math.min(size, notificationMaxPageSize);
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize,
+            Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        Page<Notification> notifications;
         if (unreadOnly != null && unreadOnly) {
-            notifications = notificationRepository.findByUserIdAndUserTypeAndIsReadOrderByCreatedAtDesc(
-                student.getId(), "STUDENT", false);
+            notifications = notificationRepository.findByUserIdAndUserTypeAndIsRead(
+                student.getId(), "STUDENT", false, pageRequest);
         } else {
-            notifications = notificationRepository.findByUserIdAndUserTypeOrderByCreatedAtDesc(
-                student.getId(), "STUDENT");
+            notifications = notificationRepository.findByUserIdAndUserType(
+                student.getId(), "STUDENT", pageRequest);
         }
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
-        response.put("data", notifications);
-        response.put("total", notifications.size());
+        response.put("data", notifications.getContent());
+        response.put("total", notifications.getTotalElements());
+        response.put("page", pageNumber);
+        response.put("size", pageSize);
+        response.put("totalPages", notifications.getTotalPages());
+        response.put("hasNext", notifications.hasNext());
         return response;
     }
 
+    /**
+     * Open a Server-Sent Events stream of new notifications for a student
+     *
+     * @param email Student email
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     * @return Emitter that receives the missed notifications first, then new ones as they are created
+     * @throws IllegalStateException when the connection cap is reached
+     */
+    public SseEmitter subscribeNotifications(String email, String lastEventId) throws IOException {
+        // The stream stays open for up to the stream timeout; the connection is only held while this lookup runs
+        record Subscription(Long studentId, List<Notification> missed) { }
+        Subscription subscription = readOnlyTransaction.execute(status -> {
+            Student student = studentRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+            // Replay from a little before the last event: a notification created earlier may have committed later
+            LocalDateTime replayFrom = NotificationPushRegistry.replayFrom(lastEventId);
+            List<Notification> missed = replayFrom == null ? List.of()
+                : notificationRepository.findByUserIdAndUserTypeAndCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                    student.getId(), "STUDENT", replayFrom.minusNanos(streamReplayOverlapMs * 1_000_000),
+                    PageRequest.of(0, streamReplayLimit));
+            return new Subscription(student.getId(), missed);
+        });
+        return notificationPushRegistry.subscribe(subscription.studentId(), subscription.missed());
+    }
+
     /**
      * Mark notification as read
      */
@@ -360,6 +436,7 @@ public class StudentCareerService {
 
         notification.setIsRead(true);
         notificationRepository.save(notification);
+        studentDashboardCache.evict(student.getId());
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -368,22 +445,23 @@ public class StudentCareerService {
     }
 
     /**
-     * Mark all notifications as read
+     * Mark all notifications as read with one UPDATE
+     * @return Response with the number of notifications updated
      */
     @Transactional
     public Map<String, Object> markAllNotificationsAsRead(String email) {
         Student student = studentRepository.findByEmail(email)
             .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
 
-        List<Notification> unreadNotifications = notificationRepository
-            .findByUserIdAndUserTypeAndIsReadOrderByCreatedAtDesc(student.getId(), "STUDENT", false);
-
-        unreadNotifications.forEach(notification -> notification.setIsRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAllAsRead(student.getId(), "STUDENT");
+        if (updated > 0) {
+            studentDashboardCache.evict(student.getId());
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("message", "All notifications marked as read");
+        response.put("updated", updated);
         return response;
     }
 
@@ -433,6 +511,27 @@ public class StudentCareerService {
             .build();
     }
 
+    private ApplicationResponse buildApplicationResponse(StudentApplicationRow row) {
+        boolean hasCareerPost = row.code() != null;
+        return ApplicationResponse.builder()
+            .id(row.id())
+            .careerPostId(row.careerPostId())
+            .internshipTitle(hasCareerPost ? row.title() : "N/A")
+            .internshipCode(hasCareerPost ? row.code() : "N/A")
+            .status(row.status())
+            .appliedDate(row.appliedDate().format(DATE_FORMATTER))
+            .resumeUrl(row.resumeUrl())
+            .resumeFilename(row.resumeFilename())
+            .additionalSkills(row.additionalSkills())
+            .availability(row.availability())
+            .expectedStipend(row.expectedStipend())
+            .hrNotes(row.hrNotes())
+            .reviewedDate(row.reviewedDate() != null ? row.reviewedDate().format(DATE_FORMATTER) : null)
+            .internshipWorkMode(row.workMode())
+            .internshipDuration(row.duration())
+            .build();
+    }
+
     private int calculateProfileCompletion(Student student) {
         int totalFields = 13;
         int completedFields = 0;
@@ -464,6 +563,9 @@ public class StudentCareerService {
         notification.setNotificationType(notificationType);
         notification.setRelatedEntityId(relatedEntityId);
         notification.setIsRead(false);
-        notificationRepository.save(notification);
+        notificationPushRegistry.publish(notificationRepository.save(notification));
+        if ("STUDENT".equals(userType)) {
+            studentDashboardCache.evict(userId);  // unread count changed
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.StudentDashboardStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived per-student cache of dashboard statistics
+ *
+ * Keyed by email so a cache hit needs no query at all; a studentId -> email map
+ * lets write paths that only know the student ID (apply, withdraw, status changes,
+ * notification inserts and mark-read) invalidate the entry after their transaction
+ * commits. The ID map only holds students whose stats are cached, so both maps stay
+ * within max-size.
+ */
+@Component
+public class StudentDashboardCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> emailsByStudentId = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+    private final long ttlMs;
+
+    public StudentDashboardCache(@Value("${app.student.dashboard-cache.max-size:20000}") int maxSize,
+                                 @Value("${app.student.dashboard-cache.ttl-ms:30000}") long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Get cached stats for a student, computing them on a miss or after expiry
+     *
+     * @param email Student email
+     * @param loader Computes the stats and the student ID
+     * @return Dashboard stats
+     */
+    public StudentDashboardStatsResponse get(String email, Supplier<Loaded> loader) {
+        String key = email.trim().toLowerCase();
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.stats();
+        }
+
+        Loaded loaded = loader.get();
+        if (entries.size() >= maxSize || emailsByStudentId.size() >= maxSize) {
+            sweep(now);
+            if (entries.size() >= maxSize || emailsByStudentId.size() >= maxSize) {
+                return loaded.stats();  // full of live entries; serve uncached
+            }
+        }
+        entries.put(key, new Entry(loaded.stats(), now + ttlMs));
+        emailsByStudentId.put(loaded.studentId(), key);
+        return loaded.stats();
+    }
+
+    /**
+     * Drop expired entries and the student IDs that pointed at them
+     */
+    private void sweep(long now) {
+        entries.values().removeIf(e -> e.expiresAt() <= now);
+        emailsByStudentId.values().removeIf(email -> !entries.containsKey(email));
+    }
+
+    /**
+     * Invalidate a student's stats once the current transaction commits
+     */
+    public void evict(Long studentId) {
+        evictAll(List.of(studentId));
+    }
+
+    /**
+     * Invalidate several students' stats once the current transaction commits
+     */
+    public void evictAll(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        Runnable eviction = () -> studentIds.forEach(studentId -> {
+            String email = emailsByStudentId.remove(studentId);
+            if (email != null) {
+                entries.remove(email);
+            }
+        });
+
+        TransactionCallbacks.afterCommit(eviction);
+    }
+
+    /**
+     * Result of a cache miss: the stats plus the student they belong to
+     */
+    public record Loaded(Long studentId, StudentDashboardStatsResponse stats) {
+    }
+
+    private record Entry(StudentDashboardStatsResponse stats, long expiresAt) {
+    }
+}
@@ -1,17 +1,22 @@
 package com.webapp.Tracker_pro.service;
 
+import com.webapp.Tracker_pro.dto.BulkDeleteStudentsResponse;
 import com.webapp.Tracker_pro.dto.StudentResponse;
 import com.webapp.Tracker_pro.exception.ResourceNotFoundException;
 import com.webapp.Tracker_pro.model.Student;
 import com.webapp.Tracker_pro.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for Student operations
@@ -21,24 +26,40 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StudentService {
 
+    /**
+     * Columns of the registrations export, in row order
+     */
+    public static final List<ExportWriter.Column> EXPORT_COLUMNS = List.of(
+            new ExportWriter.Column("id", "ID"),
+            new ExportWriter.Column("firstName", "First Name"),
+            new ExportWriter.Column("lastName", "Last Name"),
+            new ExportWriter.Column("email", "Email"),
+            new ExportWriter.Column("mobileNo", "Mobile"),
+            new ExportWriter.Column("gender", "Gender"),
+            new ExportWriter.Column("dob", "DOB"),
+            new ExportWriter.Column("location", "Location"),
+            new ExportWriter.Column("isActive", "Active"),
+            new ExportWriter.Column("createdAt", "Registered On"));
+
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final StudentRepository studentRepository;
+    private final StudentBulkDeleteService studentBulkDeleteService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * Get all students with optional search
+     * Rows are projected straight into StudentResponse; profile text (skills, bio) is not read
      */
     public List<StudentResponse> getAllStudents(String search) {
         log.info("Fetching all students with search: '{}'", search);
 
-        List<Student> students;
         if (search != null && !search.trim().isEmpty()) {
-            students = studentRepository.searchStudents(search);
-        } else {
-            students = studentRepository.findAll();
+            return studentRepository.searchSummaries(search);
         }
-
-        return students.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return studentRepository.findAllSummaries();
     }
 
     /**
@@ -52,30 +73,27 @@ public class StudentService {
     }
 
     /**
-     * Delete student by ID
+     * Delete student by ID together with their applications, notifications and documents
      */
     @Transactional
     public void deleteStudent(Long id) {
         log.info("Deleting student with ID: {}", id);
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + id));
-        studentRepository.delete(student);
+        BulkDeleteStudentsResponse result = studentBulkDeleteService.deleteStudents(List.of(id));
+        if (result.getDeleted() == 0) {
+            throw new ResourceNotFoundException("Student not found with ID: " + id);
+        }
         log.info("Student deleted successfully with ID: {}", id);
     }
 
     /**
-     * Delete multiple students
+     * Delete multiple students with set-based statements
+     *
+     * @return Per-ID outcome (deleted / not found) and dependent row counts
      */
     @Transactional
-    public void deleteMultipleStudents(List<Long> ids) {
+    public BulkDeleteStudentsResponse deleteMultipleStudents(List<Long> ids) {
         log.info("Deleting multiple students, count: {}", ids.size());
-        for (Long id : ids) {
-            try {
-                deleteStudent(id);
-            } catch (Exception e) {
-                log.error("Error deleting student with ID: {}", id, e);
-            }
-        }
+        return studentBulkDeleteService.deleteStudents(ids);
     }
 
     /**
@@ -93,6 +111,40 @@ public class StudentService {
         return studentRepository.countByCreatedAtAfter(oneWeekAgo);
     }
 
+    /**
+     * Stream every student to an export writer
+     * Rows are read forward-only and the persistence context is cleared periodically,
+     * so memory use stays flat regardless of the number of students.
+     *
+     * @param writer Open export writer using {@link #EXPORT_COLUMNS}
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportStudents(ExportWriter writer) throws IOException {
+        long rows = 0;
+        try (Stream<Student> students = studentRepository.streamAllForExport()) {
+            Iterator<Student> it = students.iterator();
+            while (it.hasNext()) {
+                Student student = it.next();
+                writer.writeRow(
+                        student.getId(),
+                        student.getFirstName(),
+                        student.getLastName(),
+                        student.getEmail(),
+                        student.getMobileNo(),
+                        student.getGender(),
+                        student.getDob(),
+                        student.getLocation(),
+                        student.getIsActive(),
+                        student.getCreatedAt());
+                if (++rows % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return rows;
+    }
+
     /**
      * Map Student entity to StudentResponse DTO
      */
@@ -1,11 +1,7 @@
 package com.webapp.Tracker_pro.service;
 
-import com.webapp.Tracker_pro.model.Admin;
-import com.webapp.Tracker_pro.model.HRFacultyUser;
-import com.webapp.Tracker_pro.model.Student;
-import com.webapp.Tracker_pro.repository.AdminRepository;
-import com.webapp.Tracker_pro.repository.HRFacultyUserRepository;
-import com.webapp.Tracker_pro.repository.StudentRepository;
+import com.webapp.Tracker_pro.dto.IdentityAccount;
+import com.webapp.Tracker_pro.repository.UserIdentityRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +14,7 @@ import java.util.Optional;
 /**
  * Unified User Details Service
  * Loads user details from all three normalized tables: admins, students, hr_faculty_users
+ * The user_identities index is joined with the table that holds the email, so one query loads the user
  * Used by Spring Security for authentication and authorization
  */
 @Service
@@ -25,12 +22,10 @@ import java.util.Optional;
 @Slf4j
 public class UnifiedUserDetailsService implements UserDetailsService {
 
-    private final AdminRepository adminRepository;
-    private final StudentRepository studentRepository;
-    private final HRFacultyUserRepository hrFacultyUserRepository;
+    private final UserIdentityRepository userIdentityRepository;
 
     /**
-     * Load user by username (email) from any of the three tables
+     * Load user by username (email) from whichever of the three tables owns it
      * 
      * @param username The email address of the user
      * @return UserDetails object
@@ -42,25 +37,12 @@ public class UnifiedUserDetailsService implements UserDetailsService {
         
         log.debug("Loading user by email: {}", email);
 
-        // Try to find in Admin table
-        Optional<Admin> adminOptional = adminRepository.findByEmail(email);
-        if (adminOptional.isPresent()) {
-            log.debug("User found in Admin table: {}", email);
-            return adminOptional.get();
-        }
-
-        // Try to find in Student table
-        Optional<Student> studentOptional = studentRepository.findByEmail(email);
-        if (studentOptional.isPresent()) {
-            log.debug("User found in Student table: {}", email);
-            return studentOptional.get();
-        }
-
-        // Try to find in HRFacultyUser table
-        Optional<HRFacultyUser> hrFacultyOptional = hrFacultyUserRepository.findByEmail(email);
-        if (hrFacultyOptional.isPresent()) {
-            log.debug("User found in HR/Faculty table: {}", email);
-            return hrFacultyOptional.get();
+        // Resolve the email through the identity index and load the owning account in the same query
+        Optional<UserDetails> user = userIdentityRepository.findAccountByEmail(email)
+                .map(IdentityAccount::account);
+        if (user.isPresent()) {
+            log.debug("User found via identity index: {}", email);
+            return user.get();
         }
 
         // User not found in any table
@@ -0,0 +1,99 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.IdentityAccount;
+import com.webapp.Tracker_pro.model.UserIdentity;
+import com.webapp.Tracker_pro.model.UserType;
+import com.webapp.Tracker_pro.repository.UserIdentityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Maintains the user_identities index alongside Admin, Student and HRFacultyUser writes
+ * Callers invoke it inside their own transaction so the index and the owning row
+ * are committed (or rolled back) together.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserIdentityService {
+
+    /**
+     * Which identifier of a new or changed account is already in use
+     */
+    public enum Conflict {
+        NONE, EMAIL, MOBILE
+    }
+
+    private final UserIdentityRepository userIdentityRepository;
+
+    /**
+     * Resolve an email to its account, loading the account in the same query
+     */
+    public Optional<IdentityAccount> findAccountByEmail(String email) {
+        return userIdentityRepository.findAccountByEmail(normalize(email));
+    }
+
+    /**
+     * Check whether an email or mobile number is used by another account (single query)
+     *
+     * @param email Email to check
+     * @param mobileNo Mobile number to check
+     * @param userType Type of the account being saved (ignored when ownerId is null)
+     * @param ownerId ID of the account being updated, or null for a new account
+     * @return EMAIL or MOBILE for the first conflict found, otherwise NONE
+     */
+    public Conflict findConflict(String email, String mobileNo, UserType userType, Long ownerId) {
+        String normalizedEmail = normalize(email);
+        Conflict conflict = Conflict.NONE;
+        for (UserIdentity identity : userIdentityRepository.findByEmailOrMobileNo(normalizedEmail, mobileNo)) {
+            if (ownerId != null && isOwnedBy(identity, userType, ownerId)) {
+                continue;
+            }
+            if (identity.getEmail().equals(normalizedEmail)) {
+                return Conflict.EMAIL;
+            }
+            conflict = Conflict.MOBILE;
+        }
+        return conflict;
+    }
+
+    /**
+     * Create or update the identity row of an account
+     */
+    @Transactional
+    public void save(UserType userType, Long ownerId, String email, String mobileNo) {
+        UserIdentity.OwnerTable ownerTable = UserIdentity.OwnerTable.of(userType);
+        UserIdentity identity = userIdentityRepository.findByOwnerTableAndOwnerId(ownerTable, ownerId)
+                .orElseGet(UserIdentity::new);
+        identity.setOwnerTable(ownerTable);
+        identity.setOwnerId(ownerId);
+        identity.setUserType(userType);
+        identity.setEmail(normalize(email));
+        identity.setMobileNo(mobileNo);
+        userIdentityRepository.save(identity);
+    }
+
+    /**
+     * Remove the identity row of a deleted account
+     */
+    @Transactional
+    public void remove(UserType userType, Long ownerId) {
+        userIdentityRepository.findByOwnerTableAndOwnerId(UserIdentity.OwnerTable.of(userType), ownerId)
+                .ifPresent(userIdentityRepository::delete);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isOwnedBy(UserIdentity identity, UserType userType, Long ownerId) {
+        return identity.getOwnerTable() == UserIdentity.OwnerTable.of(userType)
+                && identity.getOwnerId().equals(ownerId);
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,147 @@
+package com.webapp.Tracker_pro.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of authenticated principals keyed by email
+ *
+ * Lets JwtAuthenticationFilter skip the admin/student/HR lookups on every request.
+ * Services that change a user (update, enable/disable, delete) must call
+ * {@link #evict(String)}; eviction is deferred until their transaction commits so
+ * a concurrent request cannot re-cache the old row.
+ *
+ * Every eviction also bumps the key's generation. A load only stays cached if the
+ * generation it started under is unchanged after the put, so a principal read just
+ * before an eviction (e.g. a user being disabled) is never cached for the whole TTL.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong nextGeneration = new AtomicLong();
+    private volatile long epoch;  // Bumped when generations is cleared, which invalidates every in-flight load
+
+    private final int maxSize;
+    private final long ttlMs;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserPrincipalCache(@Value("${app.security.principal-cache.max-size:10000}") int maxSize,
+                              @Value("${app.security.principal-cache.ttl-ms:300000}") long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Get the cached principal for an email, loading it on a miss or after expiry
+     *
+     * @param email User email (normalised to lower case)
+     * @param loader Loads the principal from the database
+     * @return Principal
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        String key = normalize(email);
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            hits.increment();
+            return entry.principal();
+        }
+
+        misses.increment();
+        long loadEpoch = epoch;
+        Long loadGeneration = generations.get(key);
+        UserDetails principal = loader.apply(key);
+        if (entries.size() >= maxSize) {
+            evictForSpace(now);
+        }
+        Entry loaded = new Entry(principal, now + ttlMs);
+        entries.put(key, loaded);
+        // Evicted while loading: the principal may predate the change, so do not keep it
+        if (loadEpoch != epoch || !Objects.equals(loadGeneration, generations.get(key))) {
+            entries.remove(key, loaded);
+        }
+        return principal;
+    }
+
+    /**
+     * Drop the cached principal for an email once the current transaction commits
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+        TransactionCallbacks.afterCommit(() -> invalidate(key));
+        // Also evict now so requests inside the transaction window reload from the database
+        invalidate(key);
+    }
+
+    public void clear() {
+        epoch++;
+        generations.clear();
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Bump the key's generation before removing its entry, so a load that puts after
+     * the removal sees the new generation and drops its own entry
+     */
+    private void invalidate(String key) {
+        if (generations.size() >= maxSize) {
+            epoch++;
+            generations.clear();
+        }
+        generations.put(key, nextGeneration.incrementAndGet());
+        entries.remove(key);
+    }
+
+    /**
+     * Remove expired entries; if the cache is still full drop the tenth closest to expiry
+     */
+    private void evictForSpace(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        int excess = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+            log.debug("Principal cache full, evicted {} entries", excess);
+        }
+    }
+
+    private String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+
+    private record Entry(UserDetails principal, long expiresAt) {
+    }
+}
@@ -94,7 +94,8 @@ async function makeRequest(endpoint, options = {}) {
     const fetchOptions = {
         method,
         headers,
-        credentials: 'include'  // Send cookies if any
+        credentials: 'include',  // Send cookies if any
+        cache: 'no-cache'        // Revalidate with If-None-Match; unchanged data comes back as an empty 304
     };
 
     // Add body for POST/PUT/PATCH requests
@@ -281,12 +282,15 @@ const RegistrationAPI = {
     },
 
     /**
-     * Export registrations data
-     * @returns {Promise<{success: boolean, data: Array}>}
+     * Export registrations data as a streamed file
+     * @param {string} format - 'csv' or 'ndjson'
+     * @returns {Promise<Blob>}
      */
-    async exportData() {
+    async exportData(format = 'csv') {
         return await makeRequest('/registrations/export', {
-            method: 'GET'
+            method: 'GET',
+            queryParams: { format },
+            isFileDownload: true
         });
     }
 };
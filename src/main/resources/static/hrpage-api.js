@@ -104,7 +104,8 @@ async function makeHRRequest(endpoint, options = {}) {
     const fetchOptions = {
         method,
         headers,
-        credentials: 'include'  // Send cookies if any
+        credentials: 'include',  // Send cookies if any
+        cache: 'no-cache'        // Revalidate with If-None-Match; unchanged data comes back as an empty 304
     };
 
     // Add body for POST/PUT/PATCH requests
@@ -236,9 +237,9 @@ function initHRAuthentication() {
  */
 const HRApplicationsAPI = {
     /**
-     * Get all applications with filters
-     * @param {Object} filters - { search, status, dateFrom, dateTo, internshipId }
-     * @returns {Promise<Object>} Applications list
+     * Get one page of applications with filters
+     * @param {Object} filters - { search, status, dateFrom, dateTo, internshipId, cursor, limit }
+     * @returns {Promise<Object>} Applications page with nextCursor
      */
     async getAll(filters = {}) {
         return await makeHRRequest('/hr/applications', {
@@ -264,13 +265,14 @@ const HRApplicationsAPI = {
      * @param {Number} id - Application ID
      * @param {String} status - New status
      * @param {String} hrNotes - Optional HR notes
+     * @param {Number} version - Version from the last read; a stale one is rejected with 409
      * @returns {Promise<Object>} Updated application
      */
-    async updateStatus(id, status, hrNotes = null) {
+    async updateStatus(id, status, hrNotes = null, version = null) {
         return await makeHRRequest('/hr/applications/:id/status', {
             method: 'PUT',
             pathParams: { id },
-            body: { status, hrNotes }
+            body: { status, hrNotes, version }
         });
     },
 
@@ -278,13 +280,29 @@ const HRApplicationsAPI = {
      * Add or update HR notes
      * @param {Number} id - Application ID
      * @param {String} hrNotes - HR notes text
+     * @param {Number} version - Version from the last read; a stale one is rejected with 409
      * @returns {Promise<Object>} Response
      */
-    async updateNotes(id, hrNotes) {
+    async updateNotes(id, hrNotes, version = null) {
         return await makeHRRequest('/hr/applications/:id/notes', {
             method: 'PUT',
             pathParams: { id },
-            body: { hrNotes }
+            body: { hrNotes, version }
+        });
+    },
+
+    /**
+     * Partially update an application; only the given fields are changed
+     * @param {Number} id - Application ID
+     * @param {Object} changes - { status, hrNotes } (either or both)
+     * @param {Number} version - Version from the last read; a stale one is rejected with 409
+     * @returns {Promise<Object>} Updated application, or the current one when rejected
+     */
+    async patch(id, changes, version = null) {
+        return await makeHRRequest('/hr/applications/:id', {
+            method: 'PATCH',
+            pathParams: { id },
+            body: { ...changes, version }
         });
     },
 
@@ -312,6 +330,57 @@ const HRApplicationsAPI = {
             method: 'GET',
             queryParams
         });
+    },
+
+    /**
+     * Export applications as one file, downloading it in resumable chunks
+     * CSV and NDJSON chunks are appended; a failed chunk is retried from the last completed one
+     * @param {Object} filters - { search, status, dateFrom, dateTo, internshipId }
+     * @param {String} format - 'csv', 'ndjson' or 'xlsx' (xlsx is downloaded in one piece)
+     * @param {Number} chunkSize - Applications per chunk
+     * @returns {Promise<Blob>} Export file
+     */
+    async exportApplications(filters = {}, format = 'csv', chunkSize = 10000) {
+        const parts = [];
+        let afterId = null;
+        let retries = 0;
+
+        while (true) {
+            const queryParams = { ...filters, format };
+            if (format !== 'xlsx') {
+                queryParams.limit = chunkSize;
+            }
+            if (afterId !== null) {
+                queryParams.afterId = afterId;
+            }
+
+            const token = getHRAuthToken();
+            const response = await fetch(`${buildHRURL('/hr/applications/export')}?${new URLSearchParams(queryParams)}`, {
+                headers: token ? { 'Authorization': `Bearer ${token}` } : {},
+                credentials: 'include'
+            });
+            if (!response.ok) {
+                const data = await response.json().catch(() => ({}));
+                throw { status: response.status, message: data.message || 'Export failed', data };
+            }
+
+            try {
+                parts.push(await response.blob());
+                retries = 0;
+            } catch (error) {
+                // Connection dropped mid-chunk: request the same chunk again
+                if (++retries > 3) {
+                    throw error;
+                }
+                continue;
+            }
+            afterId = response.headers.get('X-Export-Next-After-Id');
+            if (afterId === null) {
+                break;
+            }
+        }
+
+        return new Blob(parts, { type: parts[0].type });
     }
 };
 
@@ -426,7 +495,7 @@ const HREmailAPI = {
      * @param {Array} recipients - Array of {email, name} objects
      * @param {String} subject - Email subject
      * @param {String} body - Email body
-     * @returns {Promise<Object>} Response with success count
+     * @returns {Promise<Object>} Response with the queued job ID
      */
     async sendBulkEmails(recipients, subject, body) {
         return await makeHRRequest('/hr/emails/send-bulk', {
@@ -439,6 +508,18 @@ const HREmailAPI = {
         });
     },
 
+    /**
+     * Get progress of a bulk email job
+     * @param {Number} jobId - Job ID returned by sendBulkEmails
+     * @returns {Promise<Object>} Job status with sent/pending/failed counts
+     */
+    async getJobStatus(jobId) {
+        return await makeHRRequest('/hr/emails/jobs/:jobId', {
+            method: 'GET',
+            pathParams: { jobId }
+        });
+    },
+
     /**
      * Send interview invitation to a candidate
      * @param {Object} inviteData - Interview invitation data
@@ -469,19 +550,25 @@ const HREmailAPI = {
 // ==========================================
 
 /**
- * Load all applications with optional filters
+ * Load one page of applications with optional filters
+ * Pass the returned nextCursor back to load the following page (e.g. on "Load more")
+ * @returns {Promise<Object>} { applications, nextCursor } - nextCursor is null on the last page
  */
-async function loadHRApplications(filters = {}) {
+async function loadHRApplications(filters = {}, cursor = null) {
     try {
-        const response = await HRApplicationsAPI.getAll(filters);
-        if (response.success) {
-            return response.data || [];
+        const queryParams = cursor ? { ...filters, cursor } : filters;
+        const response = await HRApplicationsAPI.getAll(queryParams);
+        if (!response.success) {
+            throw new Error(response.message || 'Failed to load applications');
         }
-        throw new Error(response.message || 'Failed to load applications');
+        return {
+            applications: response.data || [],
+            nextCursor: response.hasMore ? response.nextCursor : null
+        };
     } catch (error) {
         console.error('Error loading applications:', error);
         showHRToast('Failed to load applications', 'error');
-        return [];
+        return { applications: [], nextCursor: null };
     }
 }
 
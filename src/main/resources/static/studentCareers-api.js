@@ -104,7 +104,8 @@ async function makeStudentRequest(endpoint, options = {}) {
     const fetchOptions = {
         method,
         headers,
-        credentials: 'include'  // Send cookies if any
+        credentials: 'include',  // Send cookies if any
+        cache: 'no-cache'        // Revalidate with If-None-Match; unchanged data comes back as an empty 304
     };
 
     // Add body for POST/PUT/PATCH requests
@@ -357,14 +358,18 @@ const StudentDashboardAPI = {
 
 const StudentNotificationAPI = {
     /**
-     * Get notifications
+     * Get one page of notifications (newest first)
      * @param {boolean} unreadOnly - Get only unread notifications
-     * @returns {Promise<{success: boolean, data: Array, total: number}>}
+     * @param {number} page - Zero-based page number
+     * @param {number} [size] - Page size (server default when omitted)
+     * @returns {Promise<{success: boolean, data: Array, total: number, page: number, size: number, totalPages: number, hasNext: boolean}>}
      */
-    async getNotifications(unreadOnly = false) {
+    async getNotifications(unreadOnly = false, page = 0, size = null) {
+        const queryParams = { unreadOnly, page };
+        if (size) queryParams.size = size;
         return await makeStudentRequest('/student/notifications', {
             method: 'GET',
-            queryParams: { unreadOnly }
+            queryParams
         });
     },
 
@@ -382,12 +387,118 @@ const StudentNotificationAPI = {
 
     /**
      * Mark all notifications as read
-     * @returns {Promise<{success: boolean, message: string}>}
+     * @returns {Promise<{success: boolean, message: string, updated: number}>}
      */
     async markAllAsRead() {
         return await makeStudentRequest('/student/notifications/read-all', {
             method: 'PATCH'
         });
+    },
+
+    /**
+     * Subscribe to pushed notifications (Server-Sent Events)
+     * Uses fetch streaming because EventSource cannot send the Authorization header.
+     * Reconnects with backoff and sends Last-Event-ID so missed notifications are replayed.
+     * Replays overlap the previous stream, so notifications already delivered are dropped by ID.
+     * @param {function(string, Object)} onEvent - Called with the event name ('notification' or 'application-status') and its data
+     * @returns {{close: function}} Handle to stop the subscription
+     */
+    subscribe(onEvent) {
+        let lastEventId = null;
+        const seenIds = new Set();
+        let retryDelay = 5000;
+        let failures = 0;
+        let closed = false;
+        let controller = null;
+
+        const dispatch = (block) => {
+            let name = 'message';
+            let id = null;
+            const data = [];
+            for (const line of block.split('\n')) {
+                if (line.startsWith(':')) continue;  // heartbeat / comment
+                const colon = line.indexOf(':');
+                const field = colon >= 0 ? line.slice(0, colon) : line;
+                const value = colon >= 0 ? line.slice(colon + 1).replace(/^ /, '') : '';
+                if (field === 'event') name = value;
+                else if (field === 'data') data.push(value);
+                else if (field === 'id') id = value;
+                else if (field === 'retry' && /^\d+$/.test(value)) retryDelay = parseInt(value, 10);
+            }
+            // Event IDs are "createdMillis-notificationId"; keep the newest as the replay cursor
+            if (id !== null && (lastEventId === null || parseInt(id, 10) >= parseInt(lastEventId, 10))) {
+                lastEventId = id;
+            }
+            if (data.length === 0) return;
+            try {
+                const payload = JSON.parse(data.join('\n'));
+                if (name === 'notification' && payload.id != null) {
+                    if (seenIds.has(payload.id)) return;
+                    seenIds.add(payload.id);
+                    if (seenIds.size > 500) seenIds.delete(seenIds.values().next().value);
+                }
+                onEvent(name, payload);
+            } catch (error) {
+                console.error('Notification stream event error:', error);
+            }
+        };
+
+        const connect = async () => {
+            const token = getStudentAuthToken();
+            if (!token || closed) return;
+
+            controller = new AbortController();
+            const headers = { 'Authorization': `Bearer ${token}`, 'Accept': 'text/event-stream' };
+            if (lastEventId !== null) headers['Last-Event-ID'] = lastEventId;
+
+            try {
+                const response = await fetch(`${STUDENT_API_CONFIG.baseURL}/student/notifications/stream`, {
+                    headers,
+                    signal: controller.signal
+                });
+                if (response.status === 401 || response.status === 403) {
+                    closed = true;  // token expired; the page's normal auth handling takes over
+                    return;
+                }
+                if (!response.ok || !response.body) {
+                    throw new Error(`Notification stream failed: HTTP ${response.status}`);
+                }
+
+                failures = 0;
+                const reader = response.body.getReader();
+                const decoder = new TextDecoder();
+                let buffer = '';
+                while (true) {
+                    const { value, done } = await reader.read();
+                    if (done) break;
+                    buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n');
+                    let boundary;
+                    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+                        dispatch(buffer.slice(0, boundary));
+                        buffer = buffer.slice(boundary + 2);
+                    }
+                }
+            } catch (error) {
+                if (closed) return;
+                failures++;
+                console.warn('Notification stream disconnected:', error.message);
+            }
+
+            if (!closed) {
+                // Back off up to a minute (with jitter) while the server is unreachable or full
+                const delay = Math.min(retryDelay * Math.pow(2, failures), 60000) * (0.5 + Math.random() / 2);
+                setTimeout(connect, delay);
+            }
+        };
+
+        connect();
+
+        return {
+            close() {
+                closed = true;
+                if (controller) controller.abort();
+            }
+        };
     }
 };
 
@@ -0,0 +1,71 @@
+package com.webapp.Tracker_pro.controller;
+
+import com.webapp.Tracker_pro.dto.HRApplicationDetailResponse;
+import com.webapp.Tracker_pro.dto.UpdateApplicationNotesRequest;
+import com.webapp.Tracker_pro.dto.UpdateApplicationStatusRequest;
+import com.webapp.Tracker_pro.exception.ConcurrentUpdateException;
+import com.webapp.Tracker_pro.service.HRApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A stale update is answered with 409 and the application's current state
+ */
+class HRControllerTest {
+
+    private HRApplicationService hrApplicationService;
+    private HRController controller;
+    private HRApplicationDetailResponse current;
+
+    @BeforeEach
+    void setUp() {
+        hrApplicationService = mock(HRApplicationService.class);
+        controller = new HRController(hrApplicationService);
+        current = HRApplicationDetailResponse.builder()
+                .id(5L)
+                .status("Shortlisted")
+                .version(4L)
+                .build();
+        when(hrApplicationService.getApplicationById(5L)).thenReturn(current);
+    }
+
+    @Test
+    void staleStatusUpdateReturnsConflictWithCurrentApplication() {
+        when(hrApplicationService.updateApplicationStatus(eq(5L), eq("Rejected"), any(), eq(3L), anyLong()))
+                .thenThrow(new ConcurrentUpdateException("Application 5 is at version 4, not 3"));
+
+        ResponseEntity<Map<String, Object>> response = controller.updateApplicationStatus(
+                5L, new UpdateApplicationStatusRequest("Rejected", null, 3L));
+
+        assertConflict(response);
+    }
+
+    @Test
+    void staleNotesUpdateReturnsConflictWithCurrentApplication() {
+        when(hrApplicationService.updateApplicationNotes(eq(5L), eq("Call back"), eq(3L), anyLong()))
+                .thenThrow(new ConcurrentUpdateException("Application 5 is at version 4, not 3"));
+
+        ResponseEntity<Map<String, Object>> response = controller.updateApplicationNotes(
+                5L, new UpdateApplicationNotesRequest("Call back", 3L));
+
+        assertConflict(response);
+    }
+
+    private void assertConflict(ResponseEntity<Map<String, Object>> response) {
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(false, response.getBody().get("success"));
+        assertSame(current, response.getBody().get("data"));
+    }
+}
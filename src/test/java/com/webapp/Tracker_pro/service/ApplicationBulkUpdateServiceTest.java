@@ -0,0 +1,144 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.ApplicationRequest;
+import com.webapp.Tracker_pro.dto.BulkUpdateApplicationResponse;
+import com.webapp.Tracker_pro.model.Application;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import com.webapp.Tracker_pro.repository.NotificationRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Bulk-updates applications across several chunks and checks the per-status counter
+ * deltas and the student notifications
+ */
+@SpringBootTest(properties = {
+        "app.hr.bulk-update.chunk-size=2"
+})
+@ActiveProfiles("test")
+class ApplicationBulkUpdateServiceTest {
+
+    @Autowired
+    private ApplicationBulkUpdateService applicationBulkUpdateService;
+
+    @Autowired
+    private StudentCareerService studentCareerService;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CareerPostRepository careerPostRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recordsDeltasAndNotifiesOnlyChangedApplications() {
+        CareerPost post = createPost("BULK-UPD");
+        List<Student> students = createStudents("bulkupd", 4);
+        List<Long> applicationIds = new ArrayList<>();
+        for (Student student : students) {
+            studentCareerService.applyForInternship(student.getEmail(),
+                    ApplicationRequest.builder().careerPostId(post.getId()).build());
+            applicationIds.add(applicationRepository
+                    .findByStudentIdAndCareerPostId(student.getId(), post.getId())
+                    .orElseThrow()
+                    .getId());
+        }
+        // One application already has the target status: no delta, no notification
+        jdbcTemplate.update("UPDATE applications SET status = 'Shortlisted' WHERE id = ?", applicationIds.get(3));
+        applicationStatsService.reconcile();
+
+        Map<String, Long> before = new HashMap<>(applicationStatsService.countsByStatus());
+        Map<Long, Long> notificationsBefore = notificationCounts(students);
+        long missing = applicationIds.get(3) + 1000;
+
+        List<Long> ids = new ArrayList<>(applicationIds);
+        ids.add(missing);
+        BulkUpdateApplicationResponse result = applicationBulkUpdateService.updateStatus(ids, "Shortlisted", 1L);
+
+        assertEquals(5, result.getRequested());
+        assertEquals(3, result.getChunks());
+        assertEquals(4, result.getUpdated());
+        assertEquals(List.of(missing), result.getNotFoundIds());
+
+        Map<String, Long> after = applicationStatsService.countsByStatus();
+        assertEquals(-3L, after.getOrDefault("Pending", 0L) - before.getOrDefault("Pending", 0L));
+        assertEquals(3L, after.getOrDefault("Shortlisted", 0L) - before.getOrDefault("Shortlisted", 0L));
+        assertEquals(4L, applicationStatsService.countsByCareerPost().get(post.getId()));
+
+        Map<Long, Long> notificationsAfter = notificationCounts(students);
+        for (int i = 0; i < students.size(); i++) {
+            Long studentId = students.get(i).getId();
+            long expected = i < 3 ? 1 : 0;
+            assertEquals(expected, notificationsAfter.get(studentId) - notificationsBefore.get(studentId));
+        }
+        for (Long id : applicationIds) {
+            Application application = applicationRepository.findById(id).orElseThrow();
+            assertEquals("Shortlisted", application.getStatus());
+        }
+
+        // The recorded deltas match the table
+        applicationStatsService.reconcile();
+        assertEquals(0, applicationStatsService.getLastDrift());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Map<Long, Long> notificationCounts(List<Student> students) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Student student : students) {
+            counts.put(student.getId(),
+                    notificationRepository.countByUserIdAndUserTypeAndIsRead(student.getId(), "STUDENT", false));
+        }
+        return counts;
+    }
+
+    private CareerPost createPost(String code) {
+        CareerPost post = new CareerPost();
+        post.setCode(code);
+        post.setTitle("Bulk update test " + code);
+        post.setDuration(3);
+        post.setWorkMode("Online");
+        post.setStatus("Posted");
+        return careerPostRepository.save(post);
+    }
+
+    private List<Student> createStudents(String prefix, int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setFirstName("Student" + i);
+            student.setEmail(prefix + i + "@test.trackerpro.com");
+            student.setPassword("password");
+            student.setMobileNo(String.format("72%08d", i));
+            student.setAge(21);
+            students.add(student);
+        }
+        return studentRepository.saveAll(students);
+    }
+}
@@ -0,0 +1,87 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.ApplicationStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reconciliation must neither undo nor double-count deltas that race with it
+ */
+class ApplicationStatsServiceTest {
+
+    private static final long POST = 7L;
+
+    private ApplicationRepository applicationRepository;
+    private ApplicationStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(ApplicationRepository.class);
+        statsService = new ApplicationStatsService(applicationRepository,
+                mock(ApplicationStatRepository.class), mock(PlatformTransactionManager.class));
+        statsService.init();
+    }
+
+    @Test
+    void reconcileReplacesDriftedCounters() {
+        statsService.recordCreated(POST, "Pending");
+        statsService.recordCreated(POST, "Rejected");
+        when(applicationRepository.countGroupedByCareerPostAndStatus())
+                .thenReturn(List.<Object[]>of(new Object[]{POST, "Pending", 5L}));
+
+        statsService.reconcile();
+
+        assertEquals(Map.of("Pending", 5L), statsService.countsByStatus());
+        assertEquals(5, statsService.getLastDrift());
+    }
+
+    @Test
+    void deltaCommittedDuringReconcileIsKept() throws Exception {
+        Thread[] writer = new Thread[1];
+        when(applicationRepository.countGroupedByCareerPostAndStatus()).thenAnswer(invocation -> {
+            // A write commits while the GROUP BY runs, so the count does not include it
+            writer[0] = new Thread(() -> statsService.recordCreated(POST, "Pending"));
+            writer[0].start();
+            writer[0].join(2000);
+            return List.<Object[]>of(new Object[]{POST, "Pending", 3L});
+        });
+
+        statsService.reconcile();
+
+        assertEquals(Thread.State.TERMINATED, writer[0].getState());  // the writer never waited for the count
+        assertEquals(4, statsService.totalApplications());
+        assertEquals(0, statsService.getLastDrift());
+    }
+
+    @Test
+    void deltaAppliedBeforeReconcileIsNotCountedTwice() {
+        statsService.recordCreated(POST, "Pending");
+        when(applicationRepository.countGroupedByCareerPostAndStatus())
+                .thenReturn(List.<Object[]>of(new Object[]{POST, "Pending", 1L}));
+
+        statsService.reconcile();
+
+        assertEquals(1, statsService.totalApplications());
+        assertEquals(0, statsService.getLastDrift());
+    }
+
+    @Test
+    void startupBuildsCountersFromTheTable() {
+        when(applicationRepository.countGroupedByCareerPostAndStatus())
+                .thenReturn(List.<Object[]>of(new Object[]{POST, "Pending", 2L}, new Object[]{POST, "Hired", 1L}));
+
+        statsService.loadOnStartup();
+
+        assertEquals(Map.of("Pending", 2L, "Hired", 1L), statsService.countsByStatus());
+        assertEquals(0, statsService.getLastDrift());
+    }
+}
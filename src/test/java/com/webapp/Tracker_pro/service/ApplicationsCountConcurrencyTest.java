@@ -0,0 +1,161 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.ApplicationRequest;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fires concurrent applies and withdrawals at one career post and checks that
+ * applicationsCount matches the applications table exactly
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=32"
+})
+@ActiveProfiles("test")
+class ApplicationsCountConcurrencyTest {
+
+    private static final int STUDENTS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private StudentCareerService studentCareerService;
+
+    @Autowired
+    private CareerPostService careerPostService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CareerPostRepository careerPostRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentAppliesAndWithdrawalsKeepCountExact() throws Exception {
+        CareerPost post = createPost("CONC-APPLY");
+        List<Student> students = createStudents("apply", STUDENTS);
+
+        AtomicInteger applied = new AtomicInteger();
+        runConcurrently(students, student -> {
+            Map<String, Object> result = studentCareerService.applyForInternship(student.getEmail(),
+                    ApplicationRequest.builder().careerPostId(post.getId()).build());
+            if (Boolean.TRUE.equals(result.get("success"))) {
+                applied.incrementAndGet();
+            }
+        });
+
+        assertEquals(STUDENTS, applied.get());
+        assertEquals(STUDENTS, applicationsCount(post.getId()));
+        assertEquals(STUDENTS, applicationRepository.countByCareerPostId(post.getId()));
+
+        // Withdraw every other application concurrently
+        List<Student> withdrawing = new ArrayList<>();
+        for (int i = 0; i < students.size(); i += 2) {
+            withdrawing.add(students.get(i));
+        }
+        runConcurrently(withdrawing, student -> {
+            Long applicationId = applicationRepository
+                    .findByStudentIdAndCareerPostId(student.getId(), post.getId())
+                    .orElseThrow()
+                    .getId();
+            studentCareerService.withdrawApplication(student.getEmail(), applicationId);
+        });
+
+        long remaining = applicationRepository.countByCareerPostId(post.getId());
+        assertEquals(STUDENTS - withdrawing.size(), remaining);
+        assertEquals(remaining, applicationsCount(post.getId()));
+    }
+
+    @Test
+    void reconciliationRepairsDrift() throws Exception {
+        CareerPost post = createPost("CONC-RECONCILE");
+        List<Student> students = createStudents("reconcile", 50);
+        runConcurrently(students, student -> studentCareerService.applyForInternship(student.getEmail(),
+                ApplicationRequest.builder().careerPostId(post.getId()).build()));
+
+        jdbcTemplate.update("UPDATE career_posts SET applications_count = 7 WHERE id = ?", post.getId());
+
+        assertEquals(1, careerPostService.reconcileApplicationsCounts());
+        assertEquals(50, applicationsCount(post.getId()));
+        assertEquals(0, careerPostService.reconcileApplicationsCounts());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void runConcurrently(List<Student> students, ThrowingConsumer<Student> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Student student : students) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    action.accept(student);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int applicationsCount(Long postId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT applications_count FROM career_posts WHERE id = ?", Integer.class, postId);
+    }
+
+    private CareerPost createPost(String code) {
+        CareerPost post = new CareerPost();
+        post.setCode(code);
+        post.setTitle("Concurrency test " + code);
+        post.setDuration(3);
+        post.setWorkMode("Online");
+        post.setStatus("Posted");
+        return careerPostRepository.save(post);
+    }
+
+    private List<Student> createStudents(String prefix, int count) {
+        List<Student> students = new ArrayList<>();
+        long mobileBase = prefix.hashCode() & 0xFFFFL;
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setFirstName("Student" + i);
+            student.setEmail(prefix + i + "@test.trackerpro.com");
+            student.setPassword("password");
+            student.setMobileNo(String.format("%04d%06d", mobileBase % 10000, i));
+            student.setAge(21);
+            students.add(student);
+        }
+        return studentRepository.saveAll(students);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingConsumer<T> {
+        void accept(T value) throws Exception;
+    }
+}
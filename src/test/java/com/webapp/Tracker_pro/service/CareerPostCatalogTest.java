@@ -0,0 +1,81 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.CatalogPost;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Catalog snapshots are detached from the entities they were built from
+ */
+class CareerPostCatalogTest {
+
+    private CareerPostRepository careerPostRepository;
+    private CareerPostCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        careerPostRepository = mock(CareerPostRepository.class);
+        catalog = new CareerPostCatalog(careerPostRepository);
+    }
+
+    @Test
+    void changingTheLoadedEntityDoesNotChangeTheSnapshot() {
+        CareerPost post = post(1L, "Online");
+        when(careerPostRepository.findByStatusOrderByCreatedAtDesc("Posted")).thenReturn(List.of(post));
+        catalog.rebuild();
+
+        post.setTitle("Changed after load");
+        post.setApplicationsCount(7);
+
+        CatalogPost cached = catalog.current().byId().get(1L);
+        assertEquals("Title 1", cached.title());
+        assertNull(cached.applicationsCount());
+    }
+
+    @Test
+    void snapshotListsCannotBeModified() {
+        when(careerPostRepository.findByStatusOrderByCreatedAtDesc("Posted"))
+                .thenReturn(List.of(post(1L, "Online"), post(2L, "Offline")));
+        catalog.rebuild();
+
+        CareerPostCatalog.Snapshot snapshot = catalog.current();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.all().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.find("online").clear());
+        assertEquals(List.of(2L), snapshot.find("OFFLINE").stream().map(CatalogPost::id).toList());
+    }
+
+    @Test
+    void rebuildPublishesNewVersion() {
+        when(careerPostRepository.findByStatusOrderByCreatedAtDesc("Posted")).thenReturn(List.of(post(1L, "Online")));
+        catalog.rebuild();
+        String before = catalog.current().etag();
+
+        catalog.rebuild();
+
+        assertNotEquals(before, catalog.current().etag());
+    }
+
+    private CareerPost post(Long id, String workMode) {
+        CareerPost post = new CareerPost();
+        post.setId(id);
+        post.setCode("CAT-" + id);
+        post.setTitle("Title " + id);
+        post.setStatus("Posted");
+        post.setWorkMode(workMode);
+        post.setApplicationsCount(3);
+        post.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusDays(id));
+        return post;
+    }
+}
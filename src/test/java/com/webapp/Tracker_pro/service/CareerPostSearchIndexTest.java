@@ -0,0 +1,153 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tokenising, matching, ranking and commit-time maintenance of the career post index
+ */
+class CareerPostSearchIndexTest {
+
+    private CareerPostRepository careerPostRepository;
+    private CareerPostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        careerPostRepository = mock(CareerPostRepository.class);
+        index = new CareerPostSearchIndex(careerPostRepository);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tokenizerSplitsOnNonAlphanumericsAndLowerCases() {
+        assertEquals(List.of("int", "2024", "01"), CareerPostSearchIndex.tokenize("INT-2024-01"));
+        assertEquals(List.of("java", "spring", "boot"), CareerPostSearchIndex.tokenize("  Java, Spring/Boot! "));
+        assertEquals(List.of("développeur"), CareerPostSearchIndex.tokenize("Développeur"));
+        assertTrue(CareerPostSearchIndex.tokenize(null).isEmpty());
+        assertTrue(CareerPostSearchIndex.tokenize("--").isEmpty());
+    }
+
+    @Test
+    void fullCodeQueryFindsPostAndRanksItFirst() {
+        CareerPost exact = post(1L, "INT-2024-01", "Backend intern", 1);
+        CareerPost similar = post(2L, "INT-2024-02", "Int 2024 01 cohort", 2);
+        when(careerPostRepository.findAll()).thenReturn(List.of(exact, similar));
+        index.rebuild();
+
+        assertEquals(List.of(1L), index.search("INT-2024-01", null, null).subList(0, 1));
+        assertEquals(List.of(1L), index.search("int-2024-01", "Posted", "all").subList(0, 1));
+    }
+
+    @Test
+    void everyQueryWordMustMatchAndPrefixesCount() {
+        when(careerPostRepository.findAll()).thenReturn(List.of(
+                post(1L, "A-1", "Java developer", 1),
+                post(2L, "A-2", "Python developer", 2)));
+        index.rebuild();
+
+        assertEquals(List.of(1L), index.search("jav dev", null, null));
+        assertEquals(List.of(2L, 1L), index.search("developer", null, null));  // same score, newest first
+        assertTrue(index.search("java python", null, null).isEmpty());
+        assertTrue(index.search("!!", null, null).isEmpty());
+    }
+
+    @Test
+    void titleOutranksDescription() {
+        CareerPost inTitle = post(1L, "B-1", "Data analyst", 1);
+        CareerPost inDescription = post(2L, "B-2", "Intern", 2);
+        inDescription.setDescription("Work with the data team");
+        when(careerPostRepository.findAll()).thenReturn(List.of(inTitle, inDescription));
+        index.rebuild();
+
+        assertEquals(List.of(1L, 2L), index.search("data", null, null));
+    }
+
+    @Test
+    void statusAndWorkModeFiltersApply() {
+        CareerPost draft = post(1L, "C-1", "Designer", 1);
+        draft.setStatus("Draft");
+        CareerPost remote = post(2L, "C-2", "Designer", 2);
+        remote.setWorkMode("Online");
+        when(careerPostRepository.findAll()).thenReturn(List.of(draft, remote));
+        index.rebuild();
+
+        assertEquals(List.of(2L), index.search("designer", "Posted", null));
+        assertEquals(List.of(2L), index.search("designer", null, "ONLINE"));
+    }
+
+    @Test
+    void changesBecomeVisibleOnlyAfterCommit() {
+        when(careerPostRepository.findAll()).thenReturn(List.of(post(1L, "D-1", "Tester", 1)));
+        index.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        CareerPost renamed = post(1L, "D-1", "Auditor", 1);
+        index.index(renamed);
+        index.index(post(2L, "D-2", "Tester", 2));
+
+        assertEquals(List.of(1L), index.search("tester", null, null));
+        assertTrue(index.search("auditor", null, null).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of(2L), index.search("tester", null, null));
+        assertEquals(List.of(1L), index.search("auditor", null, null));
+        assertEquals(List.of(1L), index.search("D-1", null, null));
+    }
+
+    @Test
+    void rolledBackChangesAreDropped() {
+        when(careerPostRepository.findAll()).thenReturn(List.of(post(1L, "E-1", "Tester", 1)));
+        index.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.unindex(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(List.of(1L), index.search("tester", null, null));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void unindexRemovesPostAndItsCode() {
+        when(careerPostRepository.findAll()).thenReturn(List.of(post(1L, "F-1", "Tester", 1)));
+        index.rebuild();
+
+        index.unindex(1L);
+
+        assertTrue(index.search("tester", null, null).isEmpty());
+        assertTrue(index.search("F-1", null, null).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private CareerPost post(Long id, String code, String title, int dayOffset) {
+        CareerPost post = new CareerPost();
+        post.setId(id);
+        post.setCode(code);
+        post.setTitle(title);
+        post.setStatus("Posted");
+        post.setWorkMode("Offline");
+        post.setCreatedAt(LocalDateTime.of(2026, 1, 1, 0, 0).plusDays(dayOffset));
+        return post;
+    }
+}
@@ -0,0 +1,92 @@
+package com.webapp.Tracker_pro.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Template parsing and rendering
+ */
+class CompiledTemplateTest {
+
+    @Test
+    void rendersPlaceholdersAndLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, "Hello {name}, see {link}.", false);
+
+        assertEquals("Hello Ada, see x.", template.render(Map.of("name", "Ada", "link", "x")::get));
+    }
+
+    @Test
+    void unknownPlaceholderIsWrittenBackVerbatim() {
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, "Dear {candidateName} {other}", false);
+
+        assertEquals("Dear Ada {other}", template.render(Map.of("candidateName", "Ada")::get));
+    }
+
+    @Test
+    void bracesThatAreNotTagsStayText() {
+        String css = "body { color: red; } .a{x:1} {} { 1}";
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, css, true);
+
+        assertEquals(css, template.render(name -> "unused"));
+    }
+
+    @Test
+    void sectionRendersOnlyWithNonEmptyValue() {
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, "A{#link}<{link}>{/link}B", false);
+
+        assertEquals("A<x>B", template.render(Map.of("link", "x")::get));
+        assertEquals("AB", template.render(Map.of("link", "")::get));
+        assertEquals("AB", template.render(name -> null));
+    }
+
+    @Test
+    void nestedSectionsSkipToTheirOwnEnd() {
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, "{#a}1{#b}2{/b}3{/a}4", false);
+
+        assertEquals("1234", template.render(Map.of("a", "y", "b", "y")::get));
+        assertEquals("134", template.render(Map.of("a", "y", "b", "")::get));
+        assertEquals("4", template.render(Map.of("a", "", "b", "y")::get));
+    }
+
+    @Test
+    void htmlTemplateEscapesValuesButNotLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, "<p>{name}</p>", true);
+
+        assertEquals("<p>&lt;b&gt;Tom &amp; &quot;Jerry&quot; &#39;s&lt;/b&gt;</p>",
+                template.render(Map.of("name", "<b>Tom & \"Jerry\" 's</b>")::get));
+    }
+
+    @Test
+    void malformedSectionsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("t", 1L, "text {/x} more", false));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("t", 1L, "{#x} never closed", false));
+        assertThrows(IllegalArgumentException.class,
+                () -> CompiledTemplate.compile("t", 1L, "{#a}{#b}{/a}{/b}", false));
+    }
+
+    @Test
+    void plainTemplateKeepsSectionTagsAsText() {
+        String body = "Hi {candidateName}, {#x} unclosed and stray {/y} tags";
+        CompiledTemplate template = CompiledTemplate.compilePlain(body, false);
+
+        assertEquals("Hi Ada, {#x} unclosed and stray {/y} tags",
+                template.render(Map.of("candidateName", "Ada", "x", "", "y", "")::get));
+    }
+
+    @Test
+    void renderToAppendsToCallerBuffer() {
+        CompiledTemplate template = CompiledTemplate.compile("t", 1L, "-{v}", false);
+        StringBuilder out = new StringBuilder("start");
+
+        template.renderTo(out, Map.of("v", "1")::get);
+        template.renderTo(out, Map.of("v", "2")::get);
+
+        assertEquals("start-1-2", out.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.webapp.Tracker_pro.service.DataWatermarks.Source.CAREER_POSTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Watermarks must change for every committed write, whatever its commit order
+ */
+@SpringBootTest(properties = {
+        "app.http.etag.watermark-ttl-ms=0"
+})
+@ActiveProfiles("test")
+class DataWatermarksTest {
+
+    @Autowired
+    private DataWatermarks dataWatermarks;
+
+    @Autowired
+    private CareerPostRepository careerPostRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void insertChangesWatermark() {
+        String before = dataWatermarks.of(CAREER_POSTS);
+
+        createPost("WM-INSERT");
+
+        assertNotEquals(before, dataWatermarks.of(CAREER_POSTS));
+    }
+
+    @Test
+    void lateCommitWithOlderTimestampChangesWatermark() {
+        CareerPost early = createPost("WM-EARLY");
+        CareerPost late = createPost("WM-LATE");
+        late.setTitle("Updated now");
+        careerPostRepository.save(late);
+        String before = dataWatermarks.of(CAREER_POSTS);
+
+        // A transaction that stamped updated_at before the newest row but committed after it
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager.createQuery(
+                        "UPDATE CareerPost cp SET cp.title = :title, cp.updatedAt = :stamped, " +
+                        "cp.version = cp.version + 1 WHERE cp.id = :id")
+                .setParameter("title", "Committed late")
+                .setParameter("stamped", LocalDateTime.now().minusHours(1))
+                .setParameter("id", early.getId())
+                .executeUpdate());
+
+        assertNotEquals(before, dataWatermarks.of(CAREER_POSTS));
+    }
+
+    @Test
+    void counterUpdateChangesWatermark() {
+        CareerPost post = createPost("WM-COUNT");
+        String before = dataWatermarks.of(CAREER_POSTS);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> careerPostRepository.adjustApplicationsCount(post.getId(), 1));
+
+        assertNotEquals(before, dataWatermarks.of(CAREER_POSTS));
+    }
+
+    @Test
+    void unchangedDataKeepsWatermark() {
+        createPost("WM-STABLE");
+
+        assertEquals(dataWatermarks.of(CAREER_POSTS), dataWatermarks.of(CAREER_POSTS));
+    }
+
+    private CareerPost createPost(String code) {
+        CareerPost post = new CareerPost();
+        post.setCode(code);
+        post.setTitle("Watermark test " + code);
+        post.setDuration(3);
+        post.setWorkMode("Online");
+        post.setStatus("Posted");
+        return careerPostRepository.save(post);
+    }
+}
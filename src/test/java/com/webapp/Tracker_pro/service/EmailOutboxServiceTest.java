@@ -0,0 +1,85 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.SendBulkEmailRequest;
+import com.webapp.Tracker_pro.model.EmailJob;
+import com.webapp.Tracker_pro.model.EmailOutbox;
+import com.webapp.Tracker_pro.repository.EmailJobRepository;
+import com.webapp.Tracker_pro.repository.EmailOutboxRepository;
+import com.webapp.Tracker_pro.repository.EmailTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bulk email personalisation when jobs are queued
+ */
+class EmailOutboxServiceTest {
+
+    private EmailOutboxRepository emailOutboxRepository;
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        EmailJobRepository emailJobRepository = mock(EmailJobRepository.class);
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        emailOutboxService = new EmailOutboxService(emailJobRepository, emailOutboxRepository,
+                new EmailTemplateService(mock(EmailTemplateRepository.class)));
+
+        EmailJob job = new EmailJob();
+        job.setId(1L);
+        when(emailJobRepository.save(any(EmailJob.class))).thenReturn(job);
+        when(emailJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(emailOutboxRepository.countByJobGroupedByStatus(1L)).thenReturn(List.of());
+    }
+
+    @Test
+    void namedRecipientGetsPlaceholderReplaced() {
+        List<EmailOutbox> queued = enqueue("Dear {candidateName},\nWelcome, {candidateName}.", "Ada");
+
+        assertEquals("Dear Ada,\nWelcome, Ada.", queued.get(0).getBody());
+    }
+
+    @Test
+    void unnamedRecipientIsAddressedAsCandidate() {
+        List<EmailOutbox> queued = enqueue("Dear {candidateName},\nHello.", null);
+
+        assertEquals("Dear Candidate,\nHello.", queued.get(0).getBody());
+    }
+
+    @Test
+    void textOutsidePlaceholdersIsNotRewritten() {
+        String body = "Dear Candidate,\nEvery shortlisted Dear Candidate letter is reviewed.";
+
+        List<EmailOutbox> queued = enqueue(body, "Ada");
+
+        assertEquals(body, queued.get(0).getBody());
+    }
+
+    @Test
+    void malformedSectionTagsInFreeFormBodyAreKept() {
+        List<EmailOutbox> queued = enqueue("Hi {candidateName} {/x} {#y}", "Ada");
+
+        assertEquals("Hi Ada {/x} {#y}", queued.get(0).getBody());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<EmailOutbox> enqueue(String body, String name) {
+        SendBulkEmailRequest request = new SendBulkEmailRequest(
+                List.of(new SendBulkEmailRequest.RecipientInfo("ada@example.com", name)), "Subject", body);
+
+        emailOutboxService.enqueueBulk(request, 9L);
+
+        ArgumentCaptor<List<EmailOutbox>> saved = ArgumentCaptor.forClass(List.class);
+        verify(emailOutboxRepository).saveAll(saved.capture());
+        return saved.getValue();
+    }
+}
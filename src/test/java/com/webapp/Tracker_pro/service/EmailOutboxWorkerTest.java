@@ -0,0 +1,186 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.EmailOutbox;
+import com.webapp.Tracker_pro.model.EmailOutboxStatus;
+import com.webapp.Tracker_pro.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Outbox claiming, delivery and retry against an in-memory database
+ */
+@SpringBootTest(properties = {
+        "app.mail.outbox.poll-interval-ms=3600000",
+        "app.mail.outbox.batch-size=10",
+        "app.mail.outbox.max-attempts=3",
+        "app.mail.outbox.retry-base-delay-ms=0"
+})
+@ActiveProfiles("test")
+class EmailOutboxWorkerTest {
+
+    @Autowired
+    private EmailOutboxWorker worker;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private final Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        emailOutboxRepository.deleteAll();
+        deliveries.clear();
+        when(emailService.createMessage(anyString(), anyString(), anyString(), anyBoolean())).thenAnswer(invocation -> {
+            deliveries.computeIfAbsent(invocation.getArgument(0), k -> new AtomicInteger()).incrementAndGet();
+            return mock(MimeMessage.class);
+        });
+        when(emailService.sendBatch(anyList())).thenAnswer(invocation ->
+                Arrays.asList(new Exception[((List<?>) invocation.getArgument(0)).size()]));
+    }
+
+    @Test
+    void concurrentDrainsDeliverEveryMessageExactlyOnce() throws Exception {
+        List<EmailOutbox> queued = enqueue(40);
+
+        ExecutorService pollers = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                runs.add(pollers.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < 5; round++) {
+                        worker.drain();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            pollers.shutdown();
+        }
+
+        assertEquals(queued.size(), deliveries.size());
+        deliveries.forEach((recipient, count) -> assertEquals(1, count.get(), recipient));
+        emailOutboxRepository.findAll().forEach(message -> {
+            assertEquals(EmailOutboxStatus.SENT, message.getStatus());
+            assertEquals(1, message.getAttempts());
+        });
+    }
+
+    @Test
+    void claimedRowsAreNotClaimedAgain() {
+        enqueue(5);
+
+        List<EmailOutbox> first = worker.claim();
+        List<EmailOutbox> second = worker.claim();
+
+        assertEquals(5, first.size());
+        assertTrue(second.isEmpty());
+        first.forEach(message -> assertEquals(EmailOutboxStatus.SENDING, message.getStatus()));
+    }
+
+    @Test
+    void onlyStaleClaimsAreReleased() {
+        enqueue(2);
+        List<EmailOutbox> claimed = worker.claim();
+        EmailOutbox stale = claimed.get(0);
+        stale.setClaimedAt(LocalDateTime.now().minusHours(1));
+        emailOutboxRepository.save(stale);
+
+        int released = emailOutboxRepository.releaseStale(LocalDateTime.now().minusMinutes(10));
+
+        assertEquals(1, released);
+        assertEquals(EmailOutboxStatus.PENDING, emailOutboxRepository.findById(stale.getId()).orElseThrow().getStatus());
+        assertEquals(EmailOutboxStatus.SENDING,
+                emailOutboxRepository.findById(claimed.get(1).getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void releasedClaimCannotBeCompletedByItsOldWorker() {
+        enqueue(1);
+        EmailOutbox stale = worker.claim().get(0);
+        emailOutboxRepository.releaseStale(LocalDateTime.now().plusMinutes(1));
+        EmailOutbox reclaimed = worker.claim().get(0);
+
+        assertEquals(0, emailOutboxRepository.markSent(stale.getId(), stale.getClaimToken(), LocalDateTime.now()));
+        assertEquals(0, emailOutboxRepository.markFailed(stale.getId(), stale.getClaimToken(),
+                EmailOutboxStatus.DEAD, LocalDateTime.now(), "late failure"));
+        assertEquals(EmailOutboxStatus.SENDING,
+                emailOutboxRepository.findById(stale.getId()).orElseThrow().getStatus());
+
+        assertEquals(1, emailOutboxRepository.markSent(reclaimed.getId(), reclaimed.getClaimToken(), LocalDateTime.now()));
+    }
+
+    @Test
+    void failedMessageIsRetriedThenDeadLettered() {
+        when(emailService.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<Exception> results = new ArrayList<>();
+            for (Object ignored : (List<?>) invocation.getArgument(0)) {
+                results.add(new IllegalStateException("550 mailbox unavailable"));
+            }
+            return results;
+        });
+        EmailOutbox message = enqueue(1).get(0);
+
+        worker.drain();
+        EmailOutbox afterFirst = emailOutboxRepository.findById(message.getId()).orElseThrow();
+        assertEquals(EmailOutboxStatus.PENDING, afterFirst.getStatus());
+        assertEquals(1, afterFirst.getAttempts());
+        assertEquals("550 mailbox unavailable", afterFirst.getLastError());
+
+        worker.drain();
+        worker.drain();
+        EmailOutbox dead = emailOutboxRepository.findById(message.getId()).orElseThrow();
+        assertEquals(EmailOutboxStatus.DEAD, dead.getStatus());
+        assertEquals(3, dead.getAttempts());
+
+        worker.drain();
+        assertEquals(3, deliveries.get(message.getRecipient()).get());
+    }
+
+    private List<EmailOutbox> enqueue(int count) {
+        List<EmailOutbox> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            EmailOutbox message = new EmailOutbox();
+            message.setRecipient("student" + i + "@host" + i + ".test");
+            message.setRecipientHost("host" + i + ".test");
+            message.setSubject("Subject " + i);
+            message.setBody("Body " + i);
+            message.setIsHtml(false);
+            messages.add(message);
+        }
+        return emailOutboxRepository.saveAll(messages);
+    }
+}
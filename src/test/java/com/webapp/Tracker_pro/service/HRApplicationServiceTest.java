@@ -0,0 +1,209 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.ApplicationPatchRequest;
+import com.webapp.Tracker_pro.dto.HRApplicationDetailResponse;
+import com.webapp.Tracker_pro.dto.HRApplicationFilter;
+import com.webapp.Tracker_pro.dto.HRApplicationPageResponse;
+import com.webapp.Tracker_pro.dto.HRApplicationSummaryResponse;
+import com.webapp.Tracker_pro.exception.ConcurrentUpdateException;
+import com.webapp.Tracker_pro.model.Application;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * HR application list, detail and update paths against an in-memory database
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HRApplicationServiceTest {
+
+    private static final Long HR_USER = 1L;
+
+    @Autowired
+    private HRApplicationService hrApplicationService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CareerPostRepository careerPostRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void cursorPagesCoverEveryApplicationOnceInOrder() {
+        CareerPost post = createPost("PAGE-1");
+        List<Application> applications = createApplications(post, "page", 25);
+
+        HRApplicationFilter filter = HRApplicationFilter.builder()
+                .status("pending")
+                .internshipId(post.getId())
+                .build();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            HRApplicationPageResponse page = hrApplicationService.getApplicationsPage(filter, cursor, 10);
+            page.getData().stream().map(HRApplicationSummaryResponse::getId).forEach(seen::add);
+            cursor = page.getNextCursor();
+            assertEquals(cursor != null, page.isHasMore());
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = applications.stream()
+                .sorted(Comparator.comparing(Application::getAppliedDate).thenComparing(Application::getId).reversed())
+                .map(Application::getId)
+                .toList();
+        assertEquals(3, pages);
+        assertEquals(expected, seen);
+
+        // The caller's filter is not rewritten to the canonical status
+        assertEquals("pending", filter.getStatus());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CareerPost post = createPost("PAGE-2");
+        createApplications(post, "last", 3);
+
+        HRApplicationPageResponse page = hrApplicationService.getApplicationsPage(
+                HRApplicationFilter.builder().internshipId(post.getId()).build(), null, 10);
+
+        assertEquals(3, page.getData().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        HRApplicationFilter filter = HRApplicationFilter.builder().build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> hrApplicationService.getApplicationsPage(filter, "not-a-cursor", 10));
+    }
+
+    @Test
+    void searchTreatsLikeWildcardsLiterally() {
+        CareerPost post = createPost("SEARCH-1");
+        createApplications(post, "wild_card", 2);
+        createApplications(post, "wildxcard", 2);
+        createApplications(post, "wild%card", 1);
+
+        HRApplicationPageResponse underscore = hrApplicationService.getApplicationsPage(
+                HRApplicationFilter.builder().internshipId(post.getId()).search("wild_card").build(), null, 10);
+        HRApplicationPageResponse percent = hrApplicationService.getApplicationsPage(
+                HRApplicationFilter.builder().internshipId(post.getId()).search("wild%").build(), null, 10);
+
+        assertEquals(2, underscore.getData().size());
+        assertEquals(1, percent.getData().size());
+    }
+
+    @Test
+    void listRowsCarryTheVersionUpdatesMustSendBack() {
+        CareerPost post = createPost("VER-1");
+        Application application = createApplications(post, "ver", 1).get(0);
+
+        HRApplicationPageResponse page = hrApplicationService.getApplicationsPage(
+                HRApplicationFilter.builder().internshipId(post.getId()).build(), null, 10);
+
+        assertEquals(application.getVersion(), page.getData().get(0).getVersion());
+    }
+
+    @Test
+    void updateWithCurrentVersionSucceedsAndBumpsIt() {
+        CareerPost post = createPost("VER-2");
+        Application application = createApplications(post, "verok", 1).get(0);
+
+        HRApplicationDetailResponse updated = hrApplicationService.patchApplication(application.getId(),
+                new ApplicationPatchRequest("Under Review", null, application.getVersion()), HR_USER);
+
+        assertEquals("Under Review", updated.getStatus());
+        assertEquals(application.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void updateBasedOnStaleVersionIsRejectedWithoutWriting() {
+        CareerPost post = createPost("VER-3");
+        Application application = createApplications(post, "verstale", 1).get(0);
+        Long readVersion = application.getVersion();
+
+        // Another HR user changes the application first
+        hrApplicationService.patchApplication(application.getId(),
+                new ApplicationPatchRequest("Shortlisted", null, readVersion), HR_USER);
+
+        assertThrows(ConcurrentUpdateException.class, () -> hrApplicationService.patchApplication(application.getId(),
+                new ApplicationPatchRequest("Rejected", "late", readVersion), HR_USER));
+
+        Application stored = applicationRepository.findById(application.getId()).orElseThrow();
+        assertEquals("Shortlisted", stored.getStatus());
+        assertNull(stored.getHrNotes());
+    }
+
+    @Test
+    void updateWithoutVersionIsAppliedOnce() {
+        CareerPost post = createPost("VER-4");
+        Application application = createApplications(post, "vernone", 1).get(0);
+
+        HRApplicationDetailResponse updated = hrApplicationService.updateApplicationNotes(
+                application.getId(), "first look", null, HR_USER);
+
+        assertEquals("first look", updated.getHrNotes());
+        assertEquals(application.getVersion() + 1, updated.getVersion());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private CareerPost createPost(String code) {
+        CareerPost post = new CareerPost();
+        post.setCode(code);
+        post.setTitle("HR test " + code);
+        post.setDuration(3);
+        post.setWorkMode("Online");
+        post.setStatus("Posted");
+        return careerPostRepository.save(post);
+    }
+
+    private List<Student> createStudents(String prefix, int count) {
+        List<Student> students = new ArrayList<>();
+        long mobileBase = prefix.hashCode() & 0xFFFFL;
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setFirstName("Student" + i);
+            student.setEmail(prefix + i + "@test.trackerpro.com");
+            student.setPassword("password");
+            student.setMobileNo(String.format("%04d%06d", mobileBase % 10000, i));
+            student.setAge(21);
+            students.add(student);
+        }
+        return studentRepository.saveAll(students);
+    }
+
+    private List<Application> createApplications(CareerPost post, String prefix, int count) {
+        List<Application> applications = new ArrayList<>();
+        for (Student student : createStudents(prefix, count)) {
+            Application application = new Application();
+            application.setStudentId(student.getId());
+            application.setCareerPostId(post.getId());
+            applications.add(application);
+        }
+        return applicationRepository.saveAll(applications);
+    }
+}
@@ -0,0 +1,100 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.NotificationFanoutJob;
+import com.webapp.Tracker_pro.model.NotificationFanoutStatus;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import com.webapp.Tracker_pro.repository.NotificationFanoutJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * One announcement per post, and bounded resumption of failed jobs
+ */
+@SpringBootTest(properties = {
+        "app.notifications.fanout.max-attempts=2"
+})
+@ActiveProfiles("test")
+class NotificationFanoutServiceTest {
+
+    @Autowired
+    private NotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private NotificationFanoutJobRepository jobRepository;
+
+    @Autowired
+    private CareerPostRepository careerPostRepository;
+
+    @Test
+    void postIsAnnouncedOnce() {
+        CareerPost post = createPost("FAN-1");
+
+        notificationFanoutService.notifyNewInternship(post);
+        notificationFanoutService.notifyNewInternship(post);
+
+        assertEquals(1, jobRepository.findAll().stream()
+                .filter(job -> job.getCareerPostId().equals(post.getId()))
+                .count());
+    }
+
+    @Test
+    void databaseRejectsSecondJobForSamePost() {
+        CareerPost post = createPost("FAN-2");
+        jobRepository.saveAndFlush(job(post.getId(), NotificationFanoutStatus.COMPLETED, 1));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jobRepository.saveAndFlush(job(post.getId(), NotificationFanoutStatus.QUEUED, 0)));
+    }
+
+    @Test
+    void failedJobIsResumedUntilAttemptsRunOut() throws Exception {
+        NotificationFanoutJob retryable = jobRepository.save(
+                job(createPost("FAN-3").getId(), NotificationFanoutStatus.FAILED, 1));
+        NotificationFanoutJob exhausted = jobRepository.save(
+                job(createPost("FAN-4").getId(), NotificationFanoutStatus.FAILED, 2));
+
+        notificationFanoutService.resumeUnfinished();
+
+        assertEquals(NotificationFanoutStatus.ABANDONED, statusOf(exhausted.getId()));
+        assertEquals(2, jobRepository.findById(exhausted.getId()).orElseThrow().getAttempts());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (statusOf(retryable.getId()) != NotificationFanoutStatus.COMPLETED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(NotificationFanoutStatus.COMPLETED, statusOf(retryable.getId()));
+        assertEquals(2, jobRepository.findById(retryable.getId()).orElseThrow().getAttempts());
+    }
+
+    private NotificationFanoutStatus statusOf(Long jobId) {
+        return jobRepository.findById(jobId).orElseThrow().getStatus();
+    }
+
+    private NotificationFanoutJob job(Long careerPostId, NotificationFanoutStatus status, int attempts) {
+        NotificationFanoutJob job = new NotificationFanoutJob();
+        job.setCareerPostId(careerPostId);
+        job.setNotificationType(NotificationFanoutService.NEW_INTERNSHIP);
+        job.setTitle("New Internship Posted");
+        job.setMessage("Test");
+        job.setStatus(status);
+        job.setAttempts(attempts);
+        return job;
+    }
+
+    private CareerPost createPost(String code) {
+        CareerPost post = new CareerPost();
+        post.setCode(code);
+        post.setTitle("Fan-out test " + code);
+        post.setDuration(3);
+        post.setWorkMode("Online");
+        post.setStatus("Posted");
+        return careerPostRepository.save(post);
+    }
+}
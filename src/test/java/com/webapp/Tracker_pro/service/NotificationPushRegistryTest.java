@@ -0,0 +1,93 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.Notification;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Stream caps and replay cursors
+ */
+class NotificationPushRegistryTest {
+
+    @Test
+    void subscriberBeyondPerStudentCapIsRejectedAndExistingStreamsKept() throws Exception {
+        NotificationPushRegistry registry = new NotificationPushRegistry(100, 2, 60000, 5000, 1, 100, 10000);
+
+        registry.subscribe(1L, List.of());
+        registry.subscribe(1L, List.of());
+
+        assertThrows(IllegalStateException.class, () -> registry.subscribe(1L, List.of()));
+        assertEquals(2, registry.getConnectionCount());
+        assertNotNull(registry.subscribe(2L, List.of()));
+        assertEquals(3, registry.getConnectionCount());
+    }
+
+    @Test
+    void concurrentSubscribesNeverExceedTheCap() throws Exception {
+        NotificationPushRegistry registry = new NotificationPushRegistry(100, 3, 60000, 5000, 1, 100, 10000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int i = 0; i < 32; i++) {
+            pool.submit(() -> {
+                start.await();
+                try {
+                    registry.subscribe(1L, List.of());
+                    accepted.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(3, accepted.get());
+        assertEquals(29, rejected.get());
+        assertEquals(3, registry.getConnectionCount());
+    }
+
+    @Test
+    void instanceCapRejectsNewStreams() throws Exception {
+        NotificationPushRegistry registry = new NotificationPushRegistry(1, 3, 60000, 5000, 1, 100, 10000);
+
+        registry.subscribe(1L, List.of());
+
+        assertThrows(IllegalStateException.class, () -> registry.subscribe(2L, List.of()));
+        assertEquals(1, registry.getConnectionCount());
+    }
+
+    @Test
+    void eventIdRoundTripsToCreationTime() {
+        Notification notification = new Notification();
+        notification.setId(42L);
+        notification.setCreatedAt(LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_000_000));
+
+        String eventId = NotificationPushRegistry.eventId(notification);
+
+        assertEquals(notification.getCreatedAt(), NotificationPushRegistry.replayFrom(eventId));
+    }
+
+    @Test
+    void unrecognisedLastEventIdReplaysNothing() {
+        assertNull(NotificationPushRegistry.replayFrom(null));
+        assertNull(NotificationPushRegistry.replayFrom("42"));
+        assertNull(NotificationPushRegistry.replayFrom("abc-42"));
+    }
+}
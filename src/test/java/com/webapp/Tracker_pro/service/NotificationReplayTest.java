@@ -0,0 +1,116 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.model.Notification;
+import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.repository.NotificationRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+/**
+ * A reconnecting stream replays what it missed, including late commits inside the overlap
+ */
+@SpringBootTest(properties = {
+        "app.notifications.stream.replay-overlap-ms=60000"
+})
+@ActiveProfiles("test")
+class NotificationReplayTest {
+
+    private static final LocalDateTime LAST_SEEN = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private StudentCareerService studentCareerService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private NotificationPushRegistry notificationPushRegistry;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaysFromLastEventMinusOverlapOldestFirst() throws Exception {
+        Student student = createStudent();
+        Notification seen = createNotification(student.getId(), LAST_SEEN);
+        Notification tooOld = createNotification(student.getId(), LAST_SEEN.minusMinutes(5));
+        Notification committedLate = createNotification(student.getId(), LAST_SEEN.minusSeconds(30));
+        Notification newer = createNotification(student.getId(), LAST_SEEN.plusSeconds(10));
+
+        studentCareerService.subscribeNotifications(student.getEmail(), NotificationPushRegistry.eventId(seen));
+
+        ArgumentCaptor<List<Notification>> missed = ArgumentCaptor.forClass(List.class);
+        verify(notificationPushRegistry).subscribe(eq(student.getId()), missed.capture());
+        List<Long> ids = missed.getValue().stream().map(Notification::getId).toList();
+        assertEquals(List.of(committedLate.getId(), seen.getId(), newer.getId()), ids);
+        assertFalse(ids.contains(tooOld.getId()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void firstConnectReplaysNothing() throws Exception {
+        Student student = createStudent();
+        createNotification(student.getId(), LAST_SEEN);
+
+        studentCareerService.subscribeNotifications(student.getEmail(), null);
+
+        ArgumentCaptor<List<Notification>> missed = ArgumentCaptor.forClass(List.class);
+        verify(notificationPushRegistry).subscribe(eq(student.getId()), missed.capture());
+        assertTrue(missed.getValue().isEmpty());
+    }
+
+    private Notification createNotification(Long studentId, LocalDateTime createdAt) {
+        Notification notification = new Notification();
+        notification.setUserId(studentId);
+        notification.setUserType("STUDENT");
+        notification.setTitle("Replay test");
+        notification.setMessage("Replay test");
+        notification.setNotificationType("APPLICATION_STATUS");
+        Notification saved = notificationRepository.save(notification);
+
+        // createdAt is stamped on insert; backdate it to simulate when the row was created
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", saved.getId())
+                .executeUpdate());
+        saved.setCreatedAt(createdAt);
+        return saved;
+    }
+
+    private Student createStudent() {
+        long suffix = System.nanoTime() % 1_000_000;
+        Student student = new Student();
+        student.setFirstName("Replay");
+        student.setEmail("replay" + suffix + "@test.trackerpro.com");
+        student.setPassword("password");
+        student.setMobileNo(String.format("8%09d", suffix));
+        student.setAge(21);
+        return studentRepository.save(student);
+    }
+}
@@ -0,0 +1,103 @@
+package com.webapp.Tracker_pro.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrency cap and connect-failure handling of the SMTP pool
+ */
+class SmtpTransportPoolTest {
+
+    private final Session session = Session.getInstance(new Properties());
+
+    @Test
+    void connectFailureFailsTheRestOfTheGroupWithOneHandshake() throws Exception {
+        Transport transport = mock(Transport.class);
+        MessagingException refused = new MessagingException("Connection refused");
+        doThrow(refused).when(transport).connect(any(), anyInt(), any(), any());
+        SmtpTransportPool pool = new SmtpTransportPool(sender(transport), 2, 100, 30000, 1000);
+
+        List<Exception> results = pool.send(List.of(message(), message(), message()));
+
+        assertEquals(3, results.size());
+        results.forEach(result -> assertSame(refused, result));
+        verify(transport, times(1)).connect(any(), anyInt(), any(), any());
+        assertEquals(1L, pool.getMetrics().get("connectFailures"));
+        assertEquals(3L, pool.getMetrics().get("messagesFailed"));
+    }
+
+    @Test
+    void sendersBeyondPoolSizeWaitThenFail() throws Exception {
+        Transport transport = mock(Transport.class);
+        when(transport.isConnected()).thenReturn(true);
+        SmtpTransportPool pool = new SmtpTransportPool(sender(transport), 1, 100, 30000, 100);
+
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        MimeMessage slow = new MimeMessage(session) {
+            @Override
+            public void saveChanges() throws MessagingException {
+                sending.countDown();
+                try {
+                    finish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.saveChanges();
+            }
+        };
+        CompletableFuture<List<Exception>> first = CompletableFuture.supplyAsync(() -> pool.send(List.of(slow)));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        List<Exception> second = pool.send(List.of(message()));
+        assertInstanceOf(MessagingException.class, second.get(0));
+        assertEquals(1L, pool.getMetrics().get("acquireTimeouts"));
+
+        finish.countDown();
+        assertNull(first.get(5, TimeUnit.SECONDS).get(0));
+        assertNull(pool.send(List.of(message())).get(0));
+        verify(transport, times(1)).connect(any(), anyInt(), any(), any());
+    }
+
+    private JavaMailSenderImpl sender(Transport transport) throws Exception {
+        Session mockSession = mock(Session.class);
+        when(mockSession.getTransport(anyString())).thenReturn(transport);
+        JavaMailSenderImpl sender = mock(JavaMailSenderImpl.class);
+        when(sender.getSession()).thenReturn(mockSession);
+        when(sender.getHost()).thenReturn("localhost");
+        when(sender.getPort()).thenReturn(25);
+        return sender;
+    }
+
+    private MimeMessage message() throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setRecipients(MimeMessage.RecipientType.TO, "ada@example.com");
+        message.setSubject("Test");
+        message.setText("Body");
+        return message;
+    }
+}
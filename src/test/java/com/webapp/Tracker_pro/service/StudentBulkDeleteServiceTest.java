@@ -0,0 +1,123 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.ApplicationRequest;
+import com.webapp.Tracker_pro.dto.BulkDeleteStudentsResponse;
+import com.webapp.Tracker_pro.model.CareerPost;
+import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.repository.ApplicationRepository;
+import com.webapp.Tracker_pro.repository.CareerPostRepository;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Deletes students across several chunks and checks the outcome, the dependent rows
+ * and the post counters
+ */
+@SpringBootTest(properties = {
+        "app.student.bulk-delete.chunk-size=2"
+})
+@ActiveProfiles("test")
+class StudentBulkDeleteServiceTest {
+
+    @Autowired
+    private StudentBulkDeleteService studentBulkDeleteService;
+
+    @Autowired
+    private StudentCareerService studentCareerService;
+
+    @Autowired
+    private ApplicationStatsService applicationStatsService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CareerPostRepository careerPostRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void deletesInChunksAndReportsMissingIds() {
+        CareerPost post = createPost("BULK-DEL");
+        List<Student> students = createStudents("bulkdel", 5);
+        for (Student student : students) {
+            studentCareerService.applyForInternship(student.getEmail(),
+                    ApplicationRequest.builder().careerPostId(post.getId()).build());
+        }
+        Student kept = students.get(4);
+        long missing = kept.getId() + 1000;
+
+        List<Long> ids = new ArrayList<>();
+        ids.add(students.get(0).getId());
+        ids.add(students.get(1).getId());
+        ids.add(students.get(0).getId());
+        ids.add(missing);
+        ids.add(students.get(2).getId());
+        ids.add(students.get(3).getId());
+
+        BulkDeleteStudentsResponse result = studentBulkDeleteService.deleteStudents(ids);
+
+        // Duplicates are dropped before chunking: 5 distinct IDs in chunks of 2
+        assertEquals(5, result.getRequested());
+        assertEquals(3, result.getChunks());
+        assertEquals(4, result.getDeleted());
+        assertEquals(List.of(missing), result.getNotFoundIds());
+        assertEquals(List.of(students.get(0).getId(), students.get(1).getId(),
+                students.get(2).getId(), students.get(3).getId()), result.getDeletedIds());
+        assertEquals(4, result.getApplicationsDeleted());
+
+        assertTrue(studentRepository.existsById(kept.getId()));
+        assertFalse(studentRepository.existsById(students.get(0).getId()));
+        assertEquals(1, applicationRepository.countByCareerPostId(post.getId()));
+        assertEquals(1, careerPostRepository.findById(post.getId()).orElseThrow().getApplicationsCount());
+        assertEquals(1L, applicationStatsService.countsByCareerPost().get(post.getId()));
+    }
+
+    @Test
+    void onlyMissingIdsDeleteNothing() {
+        BulkDeleteStudentsResponse result = studentBulkDeleteService.deleteStudents(List.of(-1L, -2L, -3L));
+
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getChunks());
+        assertEquals(0, result.getDeleted());
+        assertEquals(List.of(-1L, -2L, -3L), result.getNotFoundIds());
+        assertEquals(0, result.getApplicationsDeleted());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private CareerPost createPost(String code) {
+        CareerPost post = new CareerPost();
+        post.setCode(code);
+        post.setTitle("Bulk delete test " + code);
+        post.setDuration(3);
+        post.setWorkMode("Online");
+        post.setStatus("Posted");
+        return careerPostRepository.save(post);
+    }
+
+    private List<Student> createStudents(String prefix, int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setFirstName("Student" + i);
+            student.setEmail(prefix + i + "@test.trackerpro.com");
+            student.setPassword("password");
+            student.setMobileNo(String.format("71%08d", i));
+            student.setAge(21);
+            students.add(student);
+        }
+        return studentRepository.saveAll(students);
+    }
+}
@@ -0,0 +1,57 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.dto.StudentDashboardStatsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Hits, eviction and bounded size of the dashboard stats cache
+ */
+class StudentDashboardCacheTest {
+
+    @Test
+    void evictionForcesReload() {
+        StudentDashboardCache cache = new StudentDashboardCache(10, 60000);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("ada@example.com", () -> load(1L, loads));
+        cache.get("ADA@example.com ", () -> load(1L, loads));
+        assertEquals(1, loads.get());
+
+        cache.evictAll(List.of(1L));  // no transaction: evicts immediately
+        cache.get("ada@example.com", () -> load(1L, loads));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void expiredStudentsAreDroppedToMakeRoom() throws Exception {
+        StudentDashboardCache cache = new StudentDashboardCache(2, 1);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (long id = 1; id <= 50; id++) {
+            long studentId = id;
+            cache.get("student" + studentId + "@example.com", () -> load(studentId, loads));
+            Thread.sleep(2);
+        }
+        cache.get("student1@example.com", () -> load(1L, loads));
+        assertEquals(51, loads.get());
+
+        // Only two students can be cached at once, so a fresh one is served uncached until entries expire
+        StudentDashboardCache full = new StudentDashboardCache(2, 60000);
+        AtomicInteger fullLoads = new AtomicInteger();
+        full.get("a@example.com", () -> load(1L, fullLoads));
+        full.get("b@example.com", () -> load(2L, fullLoads));
+        full.get("c@example.com", () -> load(3L, fullLoads));
+        full.get("c@example.com", () -> load(3L, fullLoads));
+        assertEquals(4, fullLoads.get());
+    }
+
+    private StudentDashboardCache.Loaded load(long studentId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new StudentDashboardCache.Loaded(studentId, StudentDashboardStatsResponse.builder().build());
+    }
+}
@@ -0,0 +1,90 @@
+package com.webapp.Tracker_pro.service;
+
+import com.webapp.Tracker_pro.config.UserIdentityBackfill;
+import com.webapp.Tracker_pro.model.Student;
+import com.webapp.Tracker_pro.model.UserType;
+import com.webapp.Tracker_pro.repository.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Principal loading resolves the identity and the account in one query
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class UnifiedUserDetailsServiceTest {
+
+    @Autowired
+    private UnifiedUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserIdentityBackfill userIdentityBackfill;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void studentIsLoadedWithOneQuery() {
+        Student student = new Student();
+        student.setFirstName("Ada");
+        student.setEmail("ada@test.trackerpro.com");
+        student.setPassword("password");
+        student.setMobileNo("9000000001");
+        student.setAge(21);
+        student = studentRepository.save(student);
+        userIdentityService.save(UserType.STUDENT, student.getId(), student.getEmail(), student.getMobileNo());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        UserDetails loaded = userDetailsService.loadUserByUsername(" ADA@test.trackerpro.com ");
+
+        Student loadedStudent = assertInstanceOf(Student.class, loaded);
+        assertEquals(student.getId(), loadedStudent.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void accountInsertedWithoutIdentityIsIndexedOnNextStart() {
+        Student student = new Student();
+        student.setFirstName("Grace");
+        student.setEmail("grace@test.trackerpro.com");
+        student.setPassword("password");
+        student.setMobileNo("9000000002");
+        student.setAge(21);
+        student = studentRepository.save(student);  // e.g. seeded by SQL, bypassing UserIdentityService
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("grace@test.trackerpro.com"));
+
+        userIdentityBackfill.run();
+
+        assertEquals(student.getId(),
+                assertInstanceOf(Student.class, userDetailsService.loadUserByUsername("grace@test.trackerpro.com")).getId());
+    }
+
+    @Test
+    void unknownEmailIsRejected() {
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("nobody@test.trackerpro.com"));
+    }
+}
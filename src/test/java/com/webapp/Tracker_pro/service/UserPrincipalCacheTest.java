@@ -0,0 +1,66 @@
+package com.webapp.Tracker_pro.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A principal loaded while its key is evicted is returned but not cached
+ */
+class UserPrincipalCacheTest {
+
+    private final UserPrincipalCache cache = new UserPrincipalCache(100, 60_000);
+
+    @Test
+    void cachedPrincipalIsReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("Ada@Example.com", email -> principal(email, true, loads));
+        cache.get("ada@example.com", email -> principal(email, true, loads));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictionDuringLoadDiscardsTheLoadedPrincipal() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // The user is disabled (and evicted) after the loader read the enabled row
+        UserDetails stale = cache.get("ada@example.com", email -> {
+            UserDetails enabled = principal(email, true, loads);
+            cache.evict(email);
+            return enabled;
+        });
+        UserDetails fresh = cache.get("ada@example.com", email -> principal(email, false, loads));
+
+        assertTrue(stale.isEnabled());
+        assertFalse(fresh.isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void clearDuringLoadDiscardsTheLoadedPrincipal() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("ada@example.com", email -> {
+            UserDetails loaded = principal(email, true, loads);
+            cache.clear();
+            return loaded;
+        });
+        cache.get("ada@example.com", email -> principal(email, true, loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    private UserDetails principal(String email, boolean enabled, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return User.withUsername(email).password("x").authorities(List.of()).disabled(!enabled).build();
+    }
+}